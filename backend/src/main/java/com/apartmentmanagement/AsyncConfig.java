@@ -0,0 +1,38 @@
+package com.apartmentmanagement;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+
+    // Writers for payment ingest chunks; each holds a pooled connection while it runs,
+    // so keep this well under the Hikari pool size
+    @Bean
+    public ThreadPoolTaskExecutor paymentIngestExecutor(@Value("${app.payments.ingest.concurrency:4}") int concurrency) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(concurrency);
+        executor.setMaxPoolSize(concurrency);
+        executor.setThreadNamePrefix("payment-ingest-");
+        return executor;
+    }
+
+    // Single thread that fans maintenance events out to SSE subscribers, so sends to one client
+    // never interleave and request threads never write to other clients' streams
+    @Bean
+    public ThreadPoolTaskExecutor maintenanceEventExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(10_000);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.DiscardOldestPolicy());
+        executor.setThreadNamePrefix("maintenance-events-");
+        return executor;
+    }
+}
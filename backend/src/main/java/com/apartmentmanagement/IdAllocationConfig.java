@@ -0,0 +1,34 @@
+package com.apartmentmanagement;
+
+import com.apartmentmanagement.datasource.IdAllocationPool;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Id blocks for the pooled {@code *_seq} tables are fetched over their own connections (see
+ * PooledTableIdGenerator), so an insert never waits for a second connection from a pool that
+ * other inserts are holding.
+ */
+@Configuration
+public class IdAllocationConfig {
+
+    @Bean(destroyMethod = "close")
+    public IdAllocationPool idAllocationPool(DataSourceProperties properties,
+                                             @Value("${app.id-allocation.pool-size:2}") int poolSize) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("id-allocation");
+        dataSource.setMaximumPoolSize(poolSize);
+        dataSource.setMinimumIdle(1);
+        dataSource.setAutoCommit(true);
+        return new IdAllocationPool(dataSource);
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer idAllocationProperties(IdAllocationPool idAllocationPool) {
+        return properties -> properties.put(IdAllocationPool.SETTING, idAllocationPool);
+    }
+}
@@ -0,0 +1,17 @@
+package com.apartmentmanagement;
+
+import com.fasterxml.jackson.datatype.hibernate6.Hibernate6Module;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class JacksonConfig {
+
+    // Responses are written after the session has closed (open-in-view is off), so an association
+    // that was never loaded is written as its id, e.g. "tenant": {"id": 7}, instead of failing
+    @Bean
+    public Hibernate6Module hibernateModule() {
+        return new Hibernate6Module()
+                .configure(Hibernate6Module.Feature.SERIALIZE_IDENTIFIER_FOR_LAZY_NOT_LOADED_OBJECTS, true);
+    }
+}
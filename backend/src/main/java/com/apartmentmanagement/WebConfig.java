@@ -0,0 +1,58 @@
+package com.apartmentmanagement;
+
+import com.apartmentmanagement.entity.LeaseStatus;
+import com.apartmentmanagement.entity.MaintenancePriority;
+import com.apartmentmanagement.entity.MaintenanceStatus;
+import com.apartmentmanagement.entity.StaffRole;
+import com.apartmentmanagement.entity.StaffStatus;
+import com.apartmentmanagement.monitoring.StatementCountInterceptor;
+import com.apartmentmanagement.web.ConditionalGetInterceptor;
+import com.apartmentmanagement.web.TableVersions;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.format.FormatterRegistry;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import static com.apartmentmanagement.web.TableVersions.Table.*;
+
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    @Autowired
+    private TableVersions tableVersions;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    // Path and query parameters accept the same codes and labels as JSON, not just the constant names
+    @Override
+    public void addFormatters(FormatterRegistry registry) {
+        registry.addConverter(String.class, MaintenanceStatus.class, MaintenanceStatus::parse);
+        registry.addConverter(String.class, MaintenancePriority.class, MaintenancePriority::parse);
+        registry.addConverter(String.class, LeaseStatus.class, LeaseStatus::parse);
+        registry.addConverter(String.class, StaffRole.class, StaffRole::parse);
+        registry.addConverter(String.class, StaffStatus.class, StaffStatus::parse);
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new StatementCountInterceptor(meterRegistry)).addPathPatterns("/api/**");
+        // Each listing is keyed on every table its rows are read from
+        registry.addInterceptor(new ConditionalGetInterceptor(tableVersions, BUILDINGS))
+                .addPathPatterns("/api/buildings");
+        registry.addInterceptor(new ConditionalGetInterceptor(tableVersions, APARTMENT_UNITS, BUILDINGS))
+                .addPathPatterns("/api/apartment-units");
+        registry.addInterceptor(new ConditionalGetInterceptor(tableVersions, TENANTS))
+                .addPathPatterns("/api/tenants");
+        registry.addInterceptor(new ConditionalGetInterceptor(tableVersions, LEASES, TENANTS, APARTMENT_UNITS, BUILDINGS))
+                .addPathPatterns("/api/leases", "/api/leases/active");
+        registry.addInterceptor(new ConditionalGetInterceptor(tableVersions, MAINTENANCE_REQUESTS, TENANTS, APARTMENT_UNITS))
+                .addPathPatterns("/api/maintenance", "/api/maintenance/status/*", "/api/maintenance/priority/*");
+        registry.addInterceptor(new ConditionalGetInterceptor(tableVersions, PAYMENTS))
+                .addPathPatterns("/api/payments", "/api/payments/lease/*");
+        registry.addInterceptor(new ConditionalGetInterceptor(tableVersions, STAFF))
+                .addPathPatterns("/api/staff");
+    }
+}
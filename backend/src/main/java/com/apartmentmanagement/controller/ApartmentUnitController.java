@@ -1,10 +1,19 @@
 package com.apartmentmanagement.controller;
 
+import com.apartmentmanagement.dto.CursorPage;
 import com.apartmentmanagement.entity.ApartmentUnit;
 import com.apartmentmanagement.repository.ApartmentUnitRepository;
+import com.apartmentmanagement.service.EntityPatcher;
+import com.apartmentmanagement.service.EntityReferences;
+import com.apartmentmanagement.web.TableVersions;
+import com.fasterxml.jackson.databind.JsonNode;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.HttpStatus;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
 import java.util.List;
 
 @RestController
@@ -15,25 +24,73 @@ public class ApartmentUnitController {
     @Autowired
     private ApartmentUnitRepository apartmentUnitRepository;
 
+    @Autowired
+    private TableVersions tableVersions;
+
+    @Autowired
+    private EntityPatcher entityPatcher;
+
+    @Autowired
+    private EntityReferences entityReferences;
+
     @GetMapping
     @Transactional(readOnly = true)
     public List<ApartmentUnit> getAll() {
         return apartmentUnitRepository.findAll();
     }
 
+    @GetMapping(params = "limit")
+    @Transactional(readOnly = true)
+    public CursorPage<ApartmentUnit> getPage(@RequestParam(defaultValue = "0") Long after, @RequestParam int limit) {
+        int pageSize = CursorPage.pageSize(limit);
+        List<ApartmentUnit> rows = apartmentUnitRepository.findByIdGreaterThanOrderByIdAsc(after, Limit.of(pageSize + 1));
+        return CursorPage.of(rows, pageSize, ApartmentUnit::getId);
+    }
+
     @PostMapping
+    @CacheEvict(cacheNames = "apartmentUnits", allEntries = true)
     public ApartmentUnit create(@RequestBody ApartmentUnit unit) {
-        return apartmentUnitRepository.save(unit);
+        ApartmentUnit saved = apartmentUnitRepository.save(entityReferences.attach(unit));
+        tableVersions.bump(TableVersions.Table.APARTMENT_UNITS);
+        return saved;
+    }
+
+    @PostMapping("/batch")
+    @Transactional
+    @CacheEvict(cacheNames = "apartmentUnits", allEntries = true)
+    public List<ApartmentUnit> saveBatch(@RequestBody List<ApartmentUnit> units) {
+        List<ApartmentUnit> saved = apartmentUnitRepository.saveAll(units.stream().map(entityReferences::attach).toList());
+        tableVersions.bump(TableVersions.Table.APARTMENT_UNITS);
+        return saved;
     }
 
     @PutMapping("/{id}")
+    @CacheEvict(cacheNames = "apartmentUnits", allEntries = true)
     public ApartmentUnit update(@PathVariable Long id, @RequestBody ApartmentUnit unit) {
+        if (unit.getVersion() == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "PUT must send the version it read");
+        }
+        if (!apartmentUnitRepository.existsById(id)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Apartment unit " + id + " not found");
+        }
         unit.setId(id);
-        return apartmentUnitRepository.save(unit);
+        ApartmentUnit saved = apartmentUnitRepository.save(entityReferences.attach(unit));
+        tableVersions.bump(TableVersions.Table.APARTMENT_UNITS);
+        return saved;
+    }
+
+    @PatchMapping("/{id}")
+    @CacheEvict(cacheNames = "apartmentUnits", allEntries = true)
+    public ApartmentUnit patch(@PathVariable Long id, @RequestBody JsonNode changes) {
+        ApartmentUnit saved = entityPatcher.patch(ApartmentUnit.class, id, changes);
+        tableVersions.bump(TableVersions.Table.APARTMENT_UNITS);
+        return saved;
     }
 
     @DeleteMapping("/{id}")
+    @CacheEvict(cacheNames = "apartmentUnits", allEntries = true)
     public void delete(@PathVariable Long id) {
         apartmentUnitRepository.deleteById(id);
+        tableVersions.bump(TableVersions.Table.APARTMENT_UNITS);
     }
 }
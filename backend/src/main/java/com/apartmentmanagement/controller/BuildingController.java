@@ -1,14 +1,24 @@
 package com.apartmentmanagement.controller;
 
+import com.apartmentmanagement.dto.BuildingStats;
+import com.apartmentmanagement.dto.CursorPage;
+import com.apartmentmanagement.dto.PortfolioStats;
 import com.apartmentmanagement.entity.Building;
 import com.apartmentmanagement.entity.Tenant;
 import com.apartmentmanagement.repository.BuildingRepository;
 import com.apartmentmanagement.repository.LeaseAgreementRepository;
+import com.apartmentmanagement.service.BuildingStatsService;
+import com.apartmentmanagement.service.EntityPatcher;
+import com.apartmentmanagement.web.TableVersions;
+import com.fasterxml.jackson.databind.JsonNode;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.HttpStatus;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/api/buildings")
@@ -18,38 +28,96 @@ public class BuildingController {
     @Autowired
     private BuildingRepository buildingRepository;
 
+    @Autowired
+    private TableVersions tableVersions;
+
+    @Autowired
+    private EntityPatcher entityPatcher;
+
     @Autowired
     private LeaseAgreementRepository leaseAgreementRepository;
 
+    @Autowired
+    private BuildingStatsService buildingStatsService;
+
     @GetMapping
     @Transactional(readOnly = true)
     public List<Building> getAll() {
         return buildingRepository.findAll();
     }
 
+    @GetMapping(params = "limit")
+    @Transactional(readOnly = true)
+    public CursorPage<Building> getPage(@RequestParam(defaultValue = "0") Long after, @RequestParam int limit) {
+        int pageSize = CursorPage.pageSize(limit);
+        List<Building> rows = buildingRepository.findByIdGreaterThanOrderByIdAsc(after, Limit.of(pageSize + 1));
+        return CursorPage.of(rows, pageSize, Building::getId);
+    }
+
     @PostMapping
+    @CacheEvict(cacheNames = { "buildings", "apartmentUnits" }, allEntries = true)
     public Building create(@RequestBody Building building) {
-        return buildingRepository.save(building);
+        Building saved = buildingRepository.save(building);
+        tableVersions.bump(TableVersions.Table.BUILDINGS);
+        return saved;
+    }
+
+    @PostMapping("/batch")
+    @Transactional
+    @CacheEvict(cacheNames = { "buildings", "apartmentUnits" }, allEntries = true)
+    public List<Building> saveBatch(@RequestBody List<Building> buildings) {
+        List<Building> saved = buildingRepository.saveAll(buildings);
+        tableVersions.bump(TableVersions.Table.BUILDINGS);
+        return saved;
     }
 
     @PutMapping("/{id}")
+    @CacheEvict(cacheNames = { "buildings", "apartmentUnits" }, allEntries = true)
     public Building update(@PathVariable Long id, @RequestBody Building building) {
+        if (building.getVersion() == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "PUT must send the version it read");
+        }
+        if (!buildingRepository.existsById(id)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Building " + id + " not found");
+        }
         building.setId(id);
-        return buildingRepository.save(building);
+        Building saved = buildingRepository.save(building);
+        tableVersions.bump(TableVersions.Table.BUILDINGS);
+        return saved;
+    }
+
+    @PatchMapping("/{id}")
+    @CacheEvict(cacheNames = { "buildings", "apartmentUnits" }, allEntries = true)
+    public Building patch(@PathVariable Long id, @RequestBody JsonNode changes) {
+        Building saved = entityPatcher.patch(Building.class, id, changes);
+        tableVersions.bump(TableVersions.Table.BUILDINGS);
+        return saved;
     }
 
     @DeleteMapping("/{id}")
+    @CacheEvict(cacheNames = { "buildings", "apartmentUnits" }, allEntries = true)
     public void delete(@PathVariable Long id) {
         buildingRepository.deleteById(id);
+        tableVersions.bump(TableVersions.Table.BUILDINGS);
     }
 
     @GetMapping("/{buildingId}/tenants")
     @Transactional(readOnly = true)
-    public List<Tenant> getTenantsByBuilding(@PathVariable Long buildingId) {
-        return leaseAgreementRepository.findAll().stream()
-                .filter(l -> l.getApartmentUnit().getBuilding().getId().equals(buildingId))
-                .map(l -> l.getTenant())
-                .distinct()
-                .collect(Collectors.toList());
+    public List<Tenant> getTenantsByBuilding(@PathVariable Long buildingId,
+                                             @RequestParam(defaultValue = "false") boolean activeOnly) {
+        if (activeOnly) {
+            return leaseAgreementRepository.findActiveTenantsByBuildingId(buildingId);
+        }
+        return leaseAgreementRepository.findTenantsByBuildingId(buildingId);
+    }
+
+    @GetMapping("/stats")
+    public PortfolioStats getPortfolioStats() {
+        return buildingStatsService.getPortfolioStats();
+    }
+
+    @GetMapping("/{buildingId}/stats")
+    public BuildingStats getBuildingStats(@PathVariable Long buildingId) {
+        return buildingStatsService.getBuildingStats(buildingId);
     }
 }
@@ -0,0 +1,39 @@
+package com.apartmentmanagement.controller;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.web.bind.annotation.*;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/cache")
+@CrossOrigin
+public class CacheController {
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @GetMapping("/stats")
+    public Map<String, Map<String, Object>> getStats() {
+        Map<String, Map<String, Object>> stats = new LinkedHashMap<>();
+        for (String name : cacheManager.getCacheNames()) {
+            Cache cache = cacheManager.getCache(name);
+            if (cache instanceof CaffeineCache caffeineCache) {
+                com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCache = caffeineCache.getNativeCache();
+                CacheStats cacheStats = nativeCache.stats();
+                Map<String, Object> entry = new LinkedHashMap<>();
+                entry.put("size", nativeCache.estimatedSize());
+                entry.put("hits", cacheStats.hitCount());
+                entry.put("misses", cacheStats.missCount());
+                entry.put("evictions", cacheStats.evictionCount());
+                entry.put("hitRate", cacheStats.hitRate());
+                stats.put(name, entry);
+            }
+        }
+        return stats;
+    }
+}
@@ -1,10 +1,30 @@
 package com.apartmentmanagement.controller;
 
+import com.apartmentmanagement.dto.CursorPage;
+import com.apartmentmanagement.dto.LeaseExpiryRun;
+import com.apartmentmanagement.dto.LeaseSummary;
+import com.apartmentmanagement.entity.ApartmentUnit;
+import com.apartmentmanagement.entity.Building;
 import com.apartmentmanagement.entity.LeaseAgreement;
+import com.apartmentmanagement.entity.Tenant;
 import com.apartmentmanagement.repository.LeaseAgreementRepository;
+import com.apartmentmanagement.service.EntityPatcher;
+import com.apartmentmanagement.service.EntityReferences;
+import com.apartmentmanagement.service.LeaseExpiryService;
+import com.apartmentmanagement.service.StreamingExporter;
+import com.apartmentmanagement.web.TableVersions;
+import com.fasterxml.jackson.databind.JsonNode;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import java.util.Arrays;
 import java.util.List;
 
 @RestController
@@ -15,31 +35,118 @@ public class LeaseAgreementController {
     @Autowired
     private LeaseAgreementRepository leaseAgreementRepository;
 
+    @Autowired
+    private TableVersions tableVersions;
+
+    @Autowired
+    private EntityPatcher entityPatcher;
+
+    @Autowired
+    private EntityReferences entityReferences;
+
+    @Autowired
+    private StreamingExporter streamingExporter;
+
+    @Autowired
+    private LeaseExpiryService leaseExpiryService;
+
+    private static final List<String> CSV_HEADER = List.of("id", "startDate", "endDate", "monthlyRent", "leaseStatus",
+            "tenantId", "tenantName", "apartmentUnitId", "unitNumber", "buildingId", "buildingName");
+
     @GetMapping
     @Transactional(readOnly = true)
-    public List<LeaseAgreement> getAll() {
-        return leaseAgreementRepository.findAll();
+    public List<LeaseSummary> getAll() {
+        return leaseAgreementRepository.findAllSummaries();
+    }
+
+    @GetMapping(params = "limit")
+    @Transactional(readOnly = true)
+    public CursorPage<LeaseSummary> getPage(@RequestParam(defaultValue = "0") Long after, @RequestParam int limit) {
+        int pageSize = CursorPage.pageSize(limit);
+        List<LeaseSummary> rows = leaseAgreementRepository.findSummariesAfter(after, Limit.of(pageSize + 1));
+        return CursorPage.of(rows, pageSize, LeaseSummary::id);
     }
 
     @GetMapping("/active")
     @Transactional(readOnly = true)
-    public List<LeaseAgreement> getActiveLeases() {
+    public List<LeaseSummary> getActiveLeases() {
         return leaseAgreementRepository.findActiveLeases();
     }
 
+    @GetMapping("/expiry")
+    public ResponseEntity<LeaseExpiryRun> getLastExpiryRun() {
+        return ResponseEntity.of(leaseExpiryService.getLastRun());
+    }
+
+    @PostMapping("/expiry/run")
+    public LeaseExpiryRun runExpiry() {
+        return leaseExpiryService.expireLeases();
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(@RequestParam(defaultValue = "ndjson") String format) {
+        if ("csv".equalsIgnoreCase(format)) {
+            return ResponseEntity.ok()
+                    .contentType(new MediaType("text", "csv"))
+                    .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"leases.csv\"")
+                    .body(streamingExporter.csv(leaseAgreementRepository::streamAll, CSV_HEADER, LeaseAgreementController::toCsvRow));
+        }
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(streamingExporter.ndjson(leaseAgreementRepository::streamAll));
+    }
+
     @PostMapping
     public LeaseAgreement create(@RequestBody LeaseAgreement lease) {
-        return leaseAgreementRepository.save(lease);
+        LeaseAgreement saved = leaseAgreementRepository.save(entityReferences.attach(lease));
+        tableVersions.bump(TableVersions.Table.LEASES);
+        return saved;
+    }
+
+    @PostMapping("/batch")
+    @Transactional
+    public List<LeaseAgreement> saveBatch(@RequestBody List<LeaseAgreement> leases) {
+        List<LeaseAgreement> saved = leaseAgreementRepository.saveAll(leases.stream().map(entityReferences::attach).toList());
+        tableVersions.bump(TableVersions.Table.LEASES);
+        return saved;
     }
 
     @PutMapping("/{id}")
     public LeaseAgreement update(@PathVariable Long id, @RequestBody LeaseAgreement lease) {
+        if (lease.getVersion() == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "PUT must send the version it read");
+        }
+        if (!leaseAgreementRepository.existsById(id)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Lease " + id + " not found");
+        }
         lease.setId(id);
-        return leaseAgreementRepository.save(lease);
+        LeaseAgreement saved = leaseAgreementRepository.save(entityReferences.attach(lease));
+        tableVersions.bump(TableVersions.Table.LEASES);
+        return saved;
+    }
+
+    @PatchMapping("/{id}")
+    public LeaseAgreement patch(@PathVariable Long id, @RequestBody JsonNode changes) {
+        LeaseAgreement saved = entityPatcher.patch(LeaseAgreement.class, id, changes);
+        tableVersions.bump(TableVersions.Table.LEASES);
+        return saved;
     }
 
     @DeleteMapping("/{id}")
     public void delete(@PathVariable Long id) {
         leaseAgreementRepository.deleteById(id);
+        tableVersions.bump(TableVersions.Table.LEASES);
+        // fk_payment_lease cascades the delete to the lease's payments
+        tableVersions.bump(TableVersions.Table.PAYMENTS);
+    }
+
+    private static List<Object> toCsvRow(LeaseAgreement lease) {
+        Tenant tenant = lease.getTenant();
+        ApartmentUnit unit = lease.getApartmentUnit();
+        Building building = unit != null ? unit.getBuilding() : null;
+        return Arrays.asList(lease.getId(), lease.getStartDate(), lease.getEndDate(), lease.getMonthlyRent(), lease.getLeaseStatus(),
+                tenant != null ? tenant.getId() : null, tenant != null ? tenant.getName() : null,
+                unit != null ? unit.getId() : null, unit != null ? unit.getUnitNumber() : null,
+                building != null ? building.getId() : null, building != null ? building.getName() : null);
     }
 }
@@ -0,0 +1,32 @@
+package com.apartmentmanagement.controller;
+
+import com.apartmentmanagement.dto.MaintenanceClaim;
+import com.apartmentmanagement.service.MaintenanceWorkQueue;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.*;
+import java.util.List;
+
+// Dispatch: staff pull the next requests instead of polling /api/maintenance/priority/{priority}
+@RestController
+@RequestMapping("/api/maintenance/queue")
+@CrossOrigin
+public class MaintenanceQueueController {
+
+    @Autowired
+    private MaintenanceWorkQueue maintenanceWorkQueue;
+
+    @PostMapping("/claim")
+    public List<MaintenanceClaim> claim(@RequestParam Long staffId, @RequestParam(defaultValue = "1") int limit) {
+        return maintenanceWorkQueue.claim(staffId, limit);
+    }
+
+    @PostMapping("/assignments/{assignmentId}/complete")
+    public MaintenanceClaim complete(@PathVariable Long assignmentId) {
+        return maintenanceWorkQueue.complete(assignmentId);
+    }
+
+    @PostMapping("/assignments/{assignmentId}/release")
+    public void release(@PathVariable Long assignmentId) {
+        maintenanceWorkQueue.release(assignmentId);
+    }
+}
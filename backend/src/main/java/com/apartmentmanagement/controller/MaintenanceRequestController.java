@@ -1,10 +1,39 @@
 package com.apartmentmanagement.controller;
 
+import com.apartmentmanagement.dto.CursorPage;
+import com.apartmentmanagement.dto.MaintenanceHit;
+import com.apartmentmanagement.dto.MaintenanceSummary;
+import com.apartmentmanagement.dto.SearchPage;
+import com.apartmentmanagement.entity.ApartmentUnit;
+import com.apartmentmanagement.entity.Building;
+import com.apartmentmanagement.entity.MaintenancePriority;
 import com.apartmentmanagement.entity.MaintenanceRequest;
+import com.apartmentmanagement.entity.MaintenanceStatus;
+import com.apartmentmanagement.entity.Tenant;
 import com.apartmentmanagement.repository.MaintenanceRequestRepository;
+import com.apartmentmanagement.repository.MaintenanceRequestSpecifications;
+import com.apartmentmanagement.service.EntityPatcher;
+import com.apartmentmanagement.service.EntityReferences;
+import com.apartmentmanagement.service.FullTextSearchService;
+import com.apartmentmanagement.service.MaintenanceEventPublisher;
+import com.apartmentmanagement.service.StreamingExporter;
+import com.apartmentmanagement.web.TableVersions;
+import com.fasterxml.jackson.databind.JsonNode;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import java.time.LocalDate;
+import java.util.Arrays;
 import java.util.List;
 
 @RestController
@@ -15,37 +44,147 @@ public class MaintenanceRequestController {
     @Autowired
     private MaintenanceRequestRepository maintenanceRequestRepository;
 
+    @Autowired
+    private TableVersions tableVersions;
+
+    @Autowired
+    private EntityPatcher entityPatcher;
+
+    @Autowired
+    private EntityReferences entityReferences;
+
+    @Autowired
+    private StreamingExporter streamingExporter;
+
+    @Autowired
+    private FullTextSearchService fullTextSearchService;
+
+    @Autowired
+    private MaintenanceEventPublisher maintenanceEventPublisher;
+
+    private static final List<String> CSV_HEADER = List.of("id", "description", "status", "priority", "createdDate",
+            "apartmentUnitId", "unitNumber", "buildingId", "tenantId", "tenantName");
+
     @GetMapping
     @Transactional(readOnly = true)
-    public List<MaintenanceRequest> getAll() {
-        return maintenanceRequestRepository.findAll();
+    public List<MaintenanceSummary> getAll() {
+        return maintenanceRequestRepository.findAllSummaries();
+    }
+
+    @GetMapping(params = "limit")
+    @Transactional(readOnly = true)
+    public CursorPage<MaintenanceSummary> getPage(@RequestParam(defaultValue = "0") Long after, @RequestParam int limit) {
+        int pageSize = CursorPage.pageSize(limit);
+        List<MaintenanceSummary> rows = maintenanceRequestRepository.findSummariesAfter(after, Limit.of(pageSize + 1));
+        return CursorPage.of(rows, pageSize, MaintenanceSummary::id);
     }
 
     @GetMapping("/status/{status}")
     @Transactional(readOnly = true)
-    public List<MaintenanceRequest> getByStatus(@PathVariable String status) {
+    public List<MaintenanceSummary> getByStatus(@PathVariable MaintenanceStatus status) {
         return maintenanceRequestRepository.findByStatus(status);
     }
 
     @GetMapping("/priority/{priority}")
     @Transactional(readOnly = true)
-    public List<MaintenanceRequest> getByPriority(@PathVariable String priority) {
+    public List<MaintenanceSummary> getByPriority(@PathVariable MaintenancePriority priority) {
         return maintenanceRequestRepository.findByPriority(priority);
     }
 
+    @GetMapping("/search")
+    @Transactional(readOnly = true)
+    public CursorPage<MaintenanceSummary> search(@RequestParam(required = false) MaintenanceStatus status,
+                                                  @RequestParam(required = false) MaintenancePriority priority,
+                                                  @RequestParam(required = false) Long buildingId,
+                                                  @RequestParam(required = false) Long unitId,
+                                                  @RequestParam(required = false) Long tenantId,
+                                                  @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate createdFrom,
+                                                  @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate createdTo,
+                                                  @RequestParam(defaultValue = "0") Long after,
+                                                  @RequestParam(defaultValue = "100") int limit) {
+        int pageSize = CursorPage.pageSize(limit);
+        Specification<MaintenanceRequest> spec = MaintenanceRequestSpecifications
+                .matching(status, priority, buildingId, unitId, tenantId, createdFrom, createdTo)
+                .and(MaintenanceRequestSpecifications.idGreaterThan(after));
+        List<MaintenanceSummary> rows = maintenanceRequestRepository.findSummaries(spec, pageSize + 1);
+        return CursorPage.of(rows, pageSize, MaintenanceSummary::id);
+    }
+
+    // Full-text variant of /search: ranked by relevance of the description to q
+    @GetMapping(value = "/search", params = "q")
+    public SearchPage<MaintenanceHit> searchText(@RequestParam String q, @RequestParam(defaultValue = "0") int page,
+                                                 @RequestParam(defaultValue = "20") int size) {
+        return fullTextSearchService.searchMaintenance(q, page, size);
+    }
+
+    // Push feed of committed changes, instead of polling the list endpoints
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(@RequestParam(required = false) Long buildingId) {
+        return maintenanceEventPublisher.subscribe(buildingId);
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(@RequestParam(defaultValue = "ndjson") String format) {
+        if ("csv".equalsIgnoreCase(format)) {
+            return ResponseEntity.ok()
+                    .contentType(new MediaType("text", "csv"))
+                    .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"maintenance.csv\"")
+                    .body(streamingExporter.csv(maintenanceRequestRepository::streamAll, CSV_HEADER, MaintenanceRequestController::toCsvRow));
+        }
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(streamingExporter.ndjson(maintenanceRequestRepository::streamAll));
+    }
+
     @PostMapping
     public MaintenanceRequest create(@RequestBody MaintenanceRequest request) {
-        return maintenanceRequestRepository.save(request);
+        MaintenanceRequest saved = maintenanceRequestRepository.save(entityReferences.attach(request));
+        tableVersions.bump(TableVersions.Table.MAINTENANCE_REQUESTS);
+        return saved;
+    }
+
+    @PostMapping("/batch")
+    @Transactional
+    public List<MaintenanceRequest> saveBatch(@RequestBody List<MaintenanceRequest> requests) {
+        List<MaintenanceRequest> saved = maintenanceRequestRepository.saveAll(requests.stream().map(entityReferences::attach).toList());
+        tableVersions.bump(TableVersions.Table.MAINTENANCE_REQUESTS);
+        return saved;
     }
 
     @PutMapping("/{id}")
     public MaintenanceRequest update(@PathVariable Long id, @RequestBody MaintenanceRequest request) {
+        if (request.getVersion() == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "PUT must send the version it read");
+        }
+        if (!maintenanceRequestRepository.existsById(id)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Maintenance request " + id + " not found");
+        }
         request.setId(id);
-        return maintenanceRequestRepository.save(request);
+        MaintenanceRequest saved = maintenanceRequestRepository.save(entityReferences.attach(request));
+        tableVersions.bump(TableVersions.Table.MAINTENANCE_REQUESTS);
+        return saved;
+    }
+
+    @PatchMapping("/{id}")
+    public MaintenanceRequest patch(@PathVariable Long id, @RequestBody JsonNode changes) {
+        MaintenanceRequest saved = entityPatcher.patch(MaintenanceRequest.class, id, changes);
+        tableVersions.bump(TableVersions.Table.MAINTENANCE_REQUESTS);
+        return saved;
     }
 
     @DeleteMapping("/{id}")
     public void delete(@PathVariable Long id) {
         maintenanceRequestRepository.deleteById(id);
+        tableVersions.bump(TableVersions.Table.MAINTENANCE_REQUESTS);
+    }
+
+    private static List<Object> toCsvRow(MaintenanceRequest request) {
+        ApartmentUnit unit = request.getApartmentUnit();
+        Building building = unit != null ? unit.getBuilding() : null;
+        Tenant tenant = request.getTenant();
+        return Arrays.asList(request.getId(), request.getDescription(), request.getStatus(), request.getPriority(), request.getCreatedDate(),
+                unit != null ? unit.getId() : null, unit != null ? unit.getUnitNumber() : null,
+                building != null ? building.getId() : null,
+                tenant != null ? tenant.getId() : null, tenant != null ? tenant.getName() : null);
     }
 }
@@ -0,0 +1,107 @@
+package com.apartmentmanagement.controller;
+
+import com.apartmentmanagement.dto.CursorPage;
+import com.apartmentmanagement.dto.PaymentIngestReport;
+import com.apartmentmanagement.entity.Payment;
+import com.apartmentmanagement.repository.PaymentRepository;
+import com.apartmentmanagement.service.EntityPatcher;
+import com.apartmentmanagement.service.EntityReferences;
+import com.apartmentmanagement.service.PaymentIngestService;
+import com.apartmentmanagement.web.TableVersions;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/payments")
+@CrossOrigin
+public class PaymentController {
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    @Autowired
+    private PaymentIngestService paymentIngestService;
+
+    @Autowired
+    private TableVersions tableVersions;
+
+    @Autowired
+    private EntityPatcher entityPatcher;
+
+    @Autowired
+    private EntityReferences entityReferences;
+
+    @GetMapping
+    @Transactional(readOnly = true)
+    public List<Payment> getAll() {
+        return paymentRepository.findAll();
+    }
+
+    @GetMapping(params = "limit")
+    @Transactional(readOnly = true)
+    public CursorPage<Payment> getPage(@RequestParam(defaultValue = "0") Long after, @RequestParam int limit) {
+        int pageSize = CursorPage.pageSize(limit);
+        List<Payment> rows = paymentRepository.findByIdGreaterThanOrderByIdAsc(after, Limit.of(pageSize + 1));
+        return CursorPage.of(rows, pageSize, Payment::getId);
+    }
+
+    @GetMapping("/lease/{leaseId}")
+    @Transactional(readOnly = true)
+    public List<Payment> getByLease(@PathVariable Long leaseId) {
+        return paymentRepository.findByLeaseIdOrderByPaymentDateDesc(leaseId);
+    }
+
+    @PostMapping
+    public Payment create(@RequestBody Payment payment) {
+        Payment saved = paymentRepository.save(entityReferences.attach(payment));
+        tableVersions.bump(TableVersions.Table.PAYMENTS);
+        return saved;
+    }
+
+    // Bulk posting: the body is streamed, never bound to a List, so files of any size are fine
+    @PostMapping(value = "/ingest", consumes = { MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE })
+    public PaymentIngestReport ingestJson(InputStream body) throws IOException {
+        return paymentIngestService.ingestJson(body);
+    }
+
+    @PostMapping(value = "/ingest", consumes = "text/csv")
+    public PaymentIngestReport ingestCsv(InputStream body) throws IOException {
+        return paymentIngestService.ingestCsv(body);
+    }
+
+    @PutMapping("/{id}")
+    public Payment update(@PathVariable Long id, @RequestBody Payment payment) {
+        if (payment.getVersion() == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "PUT must send the version it read");
+        }
+        if (!paymentRepository.existsById(id)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Payment " + id + " not found");
+        }
+        payment.setId(id);
+        Payment saved = paymentRepository.save(entityReferences.attach(payment));
+        tableVersions.bump(TableVersions.Table.PAYMENTS);
+        return saved;
+    }
+
+    @PatchMapping("/{id}")
+    public Payment patch(@PathVariable Long id, @RequestBody JsonNode changes) {
+        Payment saved = entityPatcher.patch(Payment.class, id, changes);
+        tableVersions.bump(TableVersions.Table.PAYMENTS);
+        return saved;
+    }
+
+    @DeleteMapping("/{id}")
+    public void delete(@PathVariable Long id) {
+        paymentRepository.deleteById(id);
+        tableVersions.bump(TableVersions.Table.PAYMENTS);
+    }
+}
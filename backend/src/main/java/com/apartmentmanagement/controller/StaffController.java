@@ -0,0 +1,85 @@
+package com.apartmentmanagement.controller;
+
+import com.apartmentmanagement.dto.MaintenanceClaim;
+import com.apartmentmanagement.entity.Staff;
+import com.apartmentmanagement.repository.StaffRepository;
+import com.apartmentmanagement.service.EntityPatcher;
+import com.apartmentmanagement.service.MaintenanceWorkQueue;
+import com.apartmentmanagement.web.TableVersions;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/staff")
+@CrossOrigin
+public class StaffController {
+
+    @Autowired
+    private StaffRepository staffRepository;
+
+    @Autowired
+    private MaintenanceWorkQueue maintenanceWorkQueue;
+
+    @Autowired
+    private TableVersions tableVersions;
+
+    @Autowired
+    private EntityPatcher entityPatcher;
+
+    @GetMapping
+    @Transactional(readOnly = true)
+    public List<Staff> getAll() {
+        return staffRepository.findAll();
+    }
+
+    @GetMapping("/{id}")
+    @Transactional(readOnly = true)
+    public Staff get(@PathVariable Long id) {
+        return staffRepository.findById(id)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Staff " + id + " not found"));
+    }
+
+    @GetMapping("/{id}/assignments")
+    public List<MaintenanceClaim> getAssignments(@PathVariable Long id, @RequestParam(defaultValue = "false") boolean openOnly) {
+        return maintenanceWorkQueue.getAssignments(id, openOnly);
+    }
+
+    @PostMapping
+    public Staff create(@RequestBody Staff staff) {
+        Staff saved = staffRepository.save(staff);
+        tableVersions.bump(TableVersions.Table.STAFF);
+        return saved;
+    }
+
+    @PutMapping("/{id}")
+    public Staff update(@PathVariable Long id, @RequestBody Staff staff) {
+        if (staff.getVersion() == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "PUT must send the version it read");
+        }
+        if (!staffRepository.existsById(id)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Staff " + id + " not found");
+        }
+        staff.setId(id);
+        Staff saved = staffRepository.save(staff);
+        tableVersions.bump(TableVersions.Table.STAFF);
+        return saved;
+    }
+
+    @PatchMapping("/{id}")
+    public Staff patch(@PathVariable Long id, @RequestBody JsonNode changes) {
+        Staff saved = entityPatcher.patch(Staff.class, id, changes);
+        tableVersions.bump(TableVersions.Table.STAFF);
+        return saved;
+    }
+
+    @DeleteMapping("/{id}")
+    public void delete(@PathVariable Long id) {
+        staffRepository.deleteById(id);
+        tableVersions.bump(TableVersions.Table.STAFF);
+    }
+}
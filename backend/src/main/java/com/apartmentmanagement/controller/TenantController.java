@@ -1,10 +1,20 @@
 package com.apartmentmanagement.controller;
 
+import com.apartmentmanagement.dto.CursorPage;
+import com.apartmentmanagement.dto.SearchPage;
+import com.apartmentmanagement.dto.TenantHit;
 import com.apartmentmanagement.entity.Tenant;
 import com.apartmentmanagement.repository.TenantRepository;
+import com.apartmentmanagement.service.EntityPatcher;
+import com.apartmentmanagement.service.FullTextSearchService;
+import com.apartmentmanagement.web.TableVersions;
+import com.fasterxml.jackson.databind.JsonNode;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.HttpStatus;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
 import java.util.List;
 
 @RestController
@@ -15,25 +25,74 @@ public class TenantController {
     @Autowired
     private TenantRepository tenantRepository;
 
+    @Autowired
+    private TableVersions tableVersions;
+
+    @Autowired
+    private EntityPatcher entityPatcher;
+
+    @Autowired
+    private FullTextSearchService fullTextSearchService;
+
     @GetMapping
     @Transactional(readOnly = true)
     public List<Tenant> getAll() {
         return tenantRepository.findAll();
     }
 
+    @GetMapping(params = "limit")
+    @Transactional(readOnly = true)
+    public CursorPage<Tenant> getPage(@RequestParam(defaultValue = "0") Long after, @RequestParam int limit) {
+        int pageSize = CursorPage.pageSize(limit);
+        List<Tenant> rows = tenantRepository.findByIdGreaterThanOrderByIdAsc(after, Limit.of(pageSize + 1));
+        return CursorPage.of(rows, pageSize, Tenant::getId);
+    }
+
+    @GetMapping("/search")
+    public SearchPage<TenantHit> search(@RequestParam String q, @RequestParam(defaultValue = "0") int page,
+                                        @RequestParam(defaultValue = "20") int size) {
+        return fullTextSearchService.searchTenants(q, page, size);
+    }
+
     @PostMapping
     public Tenant create(@RequestBody Tenant tenant) {
-        return tenantRepository.save(tenant);
+        Tenant saved = tenantRepository.save(tenant);
+        tableVersions.bump(TableVersions.Table.TENANTS);
+        return saved;
+    }
+
+    @PostMapping("/batch")
+    @Transactional
+    public List<Tenant> saveBatch(@RequestBody List<Tenant> tenants) {
+        List<Tenant> saved = tenantRepository.saveAll(tenants);
+        tableVersions.bump(TableVersions.Table.TENANTS);
+        return saved;
     }
 
     @PutMapping("/{id}")
     public Tenant update(@PathVariable Long id, @RequestBody Tenant tenant) {
+        if (tenant.getVersion() == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "PUT must send the version it read");
+        }
+        if (!tenantRepository.existsById(id)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Tenant " + id + " not found");
+        }
         tenant.setId(id);
-        return tenantRepository.save(tenant);
+        Tenant saved = tenantRepository.save(tenant);
+        tableVersions.bump(TableVersions.Table.TENANTS);
+        return saved;
+    }
+
+    @PatchMapping("/{id}")
+    public Tenant patch(@PathVariable Long id, @RequestBody JsonNode changes) {
+        Tenant saved = entityPatcher.patch(Tenant.class, id, changes);
+        tableVersions.bump(TableVersions.Table.TENANTS);
+        return saved;
     }
 
     @DeleteMapping("/{id}")
     public void delete(@PathVariable Long id) {
         tenantRepository.deleteById(id);
+        tableVersions.bump(TableVersions.Table.TENANTS);
     }
 }
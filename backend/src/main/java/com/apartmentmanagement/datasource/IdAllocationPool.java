@@ -0,0 +1,31 @@
+package com.apartmentmanagement.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import javax.sql.DataSource;
+
+/**
+ * A small pool of primary connections used only by {@link PooledTableIdGenerator} to move the
+ * {@code *_seq} tables forward. It is not registered as a {@link DataSource} bean, which would
+ * stop Spring Boot from configuring the application pool; Hibernate gets it through the
+ * {@link #SETTING} property instead.
+ */
+public class IdAllocationPool implements AutoCloseable {
+
+    public static final String SETTING = "app.id-allocation.pool";
+
+    private final HikariDataSource dataSource;
+
+    public IdAllocationPool(HikariDataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    public DataSource getDataSource() {
+        return dataSource;
+    }
+
+    @Override
+    public void close() {
+        dataSource.close();
+    }
+}
@@ -0,0 +1,119 @@
+package com.apartmentmanagement.datasource;
+
+import org.hibernate.HibernateException;
+import org.hibernate.boot.model.relational.QualifiedName;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.jdbc.env.spi.JdbcEnvironment;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGeneratorHelper;
+import org.hibernate.id.IntegralDataTypeHolder;
+import org.hibernate.id.enhanced.AccessCallback;
+import org.hibernate.id.enhanced.DatabaseStructure;
+import org.hibernate.id.enhanced.Optimizer;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.hibernate.id.enhanced.TableStructure;
+import org.hibernate.service.ServiceRegistry;
+import org.hibernate.type.Type;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Properties;
+
+/**
+ * Hibernate's pooled sequence over a {@code *_seq} table (MySQL has no sequences), except that
+ * the next block of ids is fetched on a connection from {@link IdAllocationPool} rather than the
+ * application pool. Hibernate's own table structure borrows a second application connection for
+ * that while holding the optimizer's lock; once every pooled connection belongs to an insert
+ * waiting on the same lock, the pool deadlocks until the connection timeout. Without an
+ * {@link IdAllocationPool} (e.g. a bare Hibernate bootstrap) it behaves exactly like
+ * {@code @SequenceGenerator}.
+ *
+ * <p>Entities declare it with {@code @GenericGenerator(type = PooledTableIdGenerator.class)},
+ * passing {@code sequence_name} and {@code increment_size} as for a sequence generator.
+ */
+public class PooledTableIdGenerator extends SequenceStyleGenerator {
+
+    private DataSource idAllocation;
+
+    @Override
+    public void configure(Type type, Properties parameters, ServiceRegistry serviceRegistry) {
+        Object pool = serviceRegistry.getService(ConfigurationService.class).getSettings().get(IdAllocationPool.SETTING);
+        idAllocation = pool instanceof IdAllocationPool allocationPool ? allocationPool.getDataSource() : null;
+        super.configure(type, parameters, serviceRegistry);
+    }
+
+    @Override
+    protected DatabaseStructure buildDatabaseStructure(Type type, Properties parameters, JdbcEnvironment jdbcEnvironment,
+                                                       boolean forceTableUse, QualifiedName sequenceName,
+                                                       int initialValue, int incrementSize) {
+        if (idAllocation == null) {
+            return super.buildDatabaseStructure(type, parameters, jdbcEnvironment, forceTableUse, sequenceName,
+                    initialValue, incrementSize);
+        }
+        return new SeparatePoolTableStructure(jdbcEnvironment, sequenceName, initialValue, incrementSize,
+                type.getReturnedClass(), idAllocation);
+    }
+
+    /** Same table and values as {@link TableStructure}; only the connection differs. */
+    private static class SeparatePoolTableStructure extends TableStructure {
+
+        private final Class<?> numberType;
+        private final DataSource dataSource;
+        private String updateQuery;
+        private boolean applyIncrementSize;
+
+        SeparatePoolTableStructure(JdbcEnvironment jdbcEnvironment, QualifiedName tableName, int initialValue,
+                                   int incrementSize, Class<?> numberType, DataSource dataSource) {
+            super(jdbcEnvironment, "orm", tableName, jdbcEnvironment.getIdentifierHelper().toIdentifier(DEF_VALUE_COLUMN),
+                    initialValue, incrementSize, numberType);
+            this.numberType = numberType;
+            this.dataSource = dataSource;
+        }
+
+        @Override
+        public void prepare(Optimizer optimizer) {
+            super.prepare(optimizer);
+            applyIncrementSize = optimizer.applyIncrementSizeToSourceValues();
+        }
+
+        @Override
+        public AccessCallback buildCallback(SharedSessionContractImplementor session) {
+            if (updateQuery == null) {
+                // LAST_INSERT_ID(expr) hands the new value back on this connection without a second read
+                updateQuery = "update " + getPhysicalName().render() + " set " + DEF_VALUE_COLUMN
+                        + " = last_insert_id(" + DEF_VALUE_COLUMN + " + ?)";
+            }
+            return new AccessCallback() {
+                @Override
+                public IntegralDataTypeHolder getNextValue() {
+                    int step = applyIncrementSize ? getIncrementSize() : 1;
+                    try (Connection connection = dataSource.getConnection();
+                         PreparedStatement update = connection.prepareStatement(updateQuery)) {
+                        update.setInt(1, step);
+                        if (update.executeUpdate() != 1) {
+                            throw new HibernateException(getPhysicalName().render() + " must hold exactly one row");
+                        }
+                        try (Statement select = connection.createStatement();
+                             ResultSet result = select.executeQuery("select last_insert_id()")) {
+                            result.next();
+                            IntegralDataTypeHolder value = IdentifierGeneratorHelper.getIntegralDataTypeHolder(numberType);
+                            value.initialize(result.getLong(1) - step);
+                            return value;
+                        }
+                    } catch (SQLException e) {
+                        throw new HibernateException("Could not read the next value of " + getPhysicalName().render(), e);
+                    }
+                }
+
+                @Override
+                public String getTenantIdentifier() {
+                    return session.getTenantIdentifier();
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.apartmentmanagement.datasource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+/**
+ * Polls the replica's replication delay and takes it out of rotation while it is unreachable,
+ * not replicating, or further behind than {@code maxLag}. The lag query's row is read from a
+ * {@code Seconds_Behind_Source}/{@code Seconds_Behind_Master} column, or else its first column;
+ * a query that returns no rows (a server that is not a replica, as in local testing) counts
+ * as no lag. Until the first check completes, reads stay on the primary.
+ */
+public class ReplicaLagMonitor implements HealthIndicator {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+
+    private final DataSource replica;
+    private final String lagQuery;
+    private final Duration maxLag;
+
+    private volatile boolean replicaUsable;
+    private volatile Long lagSeconds;
+    private volatile String problem = "not checked yet";
+
+    public ReplicaLagMonitor(DataSource replica, String lagQuery, Duration maxLag) {
+        this.replica = replica;
+        this.lagQuery = lagQuery;
+        this.maxLag = maxLag;
+    }
+
+    public boolean isReplicaUsable() {
+        return replicaUsable;
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.replica.lag-check-interval:PT5S}")
+    public void check() {
+        Long lag = null;
+        String failure = null;
+        try (Connection connection = replica.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(lagQuery)) {
+            if (!rs.next()) {
+                lag = 0L;
+            } else {
+                lag = readLag(rs);
+                if (lag == null) {
+                    failure = "replication is not running";
+                } else if (lag > maxLag.toSeconds()) {
+                    failure = "replica is " + lag + "s behind (max " + maxLag.toSeconds() + "s)";
+                }
+            }
+        } catch (SQLException e) {
+            failure = "replica check failed: " + e.getMessage();
+        }
+        boolean usable = failure == null;
+        if (usable != replicaUsable) {
+            log.atWarn().addKeyValue("replicaUsable", usable).addKeyValue("lagSeconds", lag).addKeyValue("reason", failure)
+                    .log(usable ? "Routing read-only transactions to the replica" : "Routing read-only transactions to the primary");
+        }
+        lagSeconds = lag;
+        problem = failure;
+        replicaUsable = usable;
+    }
+
+    @Override
+    public Health health() {
+        // A lagging replica degrades routing but does not make the application unhealthy
+        Health.Builder health = Health.up()
+                .withDetail("routing", replicaUsable ? "replica" : "primary")
+                .withDetail("maxLagSeconds", maxLag.toSeconds());
+        if (lagSeconds != null) {
+            health.withDetail("lagSeconds", lagSeconds);
+        }
+        if (problem != null) {
+            health.withDetail("reason", problem);
+        }
+        return health.build();
+    }
+
+    private static Long readLag(ResultSet rs) throws SQLException {
+        ResultSetMetaData meta = rs.getMetaData();
+        int column = 1;
+        for (int i = 1; i <= meta.getColumnCount(); i++) {
+            String label = meta.getColumnLabel(i);
+            if ("Seconds_Behind_Source".equalsIgnoreCase(label) || "Seconds_Behind_Master".equalsIgnoreCase(label)) {
+                column = i;
+                break;
+            }
+        }
+        long lag = rs.getLong(column);
+        return rs.wasNull() ? null : lag;
+    }
+}
@@ -0,0 +1,5 @@
+package com.apartmentmanagement.dto;
+
+public record BuildingStats(Long buildingId, String buildingName, long totalUnits, long occupiedUnits,
+                            double occupancyRate, double potentialRent, double rentRoll) {
+}
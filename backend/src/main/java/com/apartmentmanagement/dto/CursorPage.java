@@ -0,0 +1,31 @@
+package com.apartmentmanagement.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * One page of a keyset-paginated listing. {@code nextCursor} is the id to pass as
+ * {@code after} for the following page, or {@code null} when this is the last page.
+ */
+public record CursorPage<T>(List<T> items, Long nextCursor) {
+
+    public static final int MAX_LIMIT = 500;
+
+    /** Clamps a requested page size to {@code [1, MAX_LIMIT]}. */
+    public static int pageSize(int limit) {
+        return Math.max(1, Math.min(limit, MAX_LIMIT));
+    }
+
+    /**
+     * Builds a page from rows fetched with {@code pageSize + 1} as the limit; the extra
+     * row only signals that another page exists and is not returned.
+     */
+    public static <T> CursorPage<T> of(List<T> rows, int pageSize, Function<T, Long> idOf) {
+        if (rows.size() <= pageSize) {
+            return new CursorPage<>(rows, null);
+        }
+        List<T> items = new ArrayList<>(rows.subList(0, pageSize));
+        return new CursorPage<>(items, idOf.apply(items.get(pageSize - 1)));
+    }
+}
@@ -0,0 +1,8 @@
+package com.apartmentmanagement.dto;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+/** Result of one lease-expiry pass: leases ending before {@code asOf} that were switched to inactive. */
+public record LeaseExpiryRun(Instant startedAt, LocalDate asOf, int batches, long expired, long durationMillis) {
+}
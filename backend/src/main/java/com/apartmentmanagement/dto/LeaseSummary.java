@@ -0,0 +1,20 @@
+package com.apartmentmanagement.dto;
+
+import com.apartmentmanagement.entity.LeaseStatus;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.time.LocalDate;
+
+/**
+ * Flat list-view row for a lease, selected directly by JPQL constructor expression so
+ * no entities or proxies are created and only the listed columns are read.
+ */
+public record LeaseSummary(Long id, LocalDate startDate, LocalDate endDate, Double monthlyRent, LeaseStatus leaseStatus,
+                           Long tenantId, String tenantName, Long apartmentUnitId, String unitNumber,
+                           Long buildingId, String buildingName) {
+
+    @JsonProperty("isActive")
+    public boolean isActive() {
+        return leaseStatus == LeaseStatus.ACTIVE;
+    }
+}
@@ -0,0 +1,5 @@
+package com.apartmentmanagement.dto;
+
+/** Per-building occupied-unit count and summed active lease rent, produced by a GROUP BY query. */
+public record LeaseTotals(Long buildingId, Long occupiedUnits, Double rentRoll) {
+}
@@ -0,0 +1,14 @@
+package com.apartmentmanagement.dto;
+
+import com.apartmentmanagement.entity.MaintenancePriority;
+import com.apartmentmanagement.entity.MaintenanceStatus;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/** A maintenance request assigned to a staff member, as returned by the work-queue endpoints. */
+public record MaintenanceClaim(Long assignmentId, Long staffId, Long requestId, String description,
+                               MaintenanceStatus status, MaintenancePriority priority, LocalDate createdDate,
+                               Long apartmentUnitId, Long tenantId, LocalDateTime assignedDate,
+                               LocalDateTime completedDate) {
+}
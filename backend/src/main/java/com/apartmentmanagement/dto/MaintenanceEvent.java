@@ -0,0 +1,15 @@
+package com.apartmentmanagement.dto;
+
+import com.apartmentmanagement.entity.MaintenancePriority;
+import com.apartmentmanagement.entity.MaintenanceStatus;
+
+import java.time.LocalDate;
+
+/**
+ * A committed change to a maintenance request as pushed on {@code /api/maintenance/stream}.
+ * {@code type} is {@code created}, {@code updated} or {@code deleted}; for deletions the other
+ * fields describe the request as it was.
+ */
+public record MaintenanceEvent(String type, Long id, long version, String description, MaintenanceStatus status, MaintenancePriority priority,
+                               LocalDate createdDate, Long apartmentUnitId, Long buildingId, Long tenantId) {
+}
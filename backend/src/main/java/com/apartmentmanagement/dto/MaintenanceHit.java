@@ -0,0 +1,12 @@
+package com.apartmentmanagement.dto;
+
+import com.apartmentmanagement.entity.MaintenancePriority;
+import com.apartmentmanagement.entity.MaintenanceStatus;
+
+import java.time.LocalDate;
+
+/** Maintenance request full-text match on its description; {@code score} is MySQL's relevance for the query. */
+public record MaintenanceHit(Long id, String description, MaintenanceStatus status, MaintenancePriority priority, LocalDate createdDate,
+                             Long apartmentUnitId, String unitNumber, Long buildingId,
+                             Long tenantId, String tenantName, double score) {
+}
@@ -0,0 +1,15 @@
+package com.apartmentmanagement.dto;
+
+import com.apartmentmanagement.entity.MaintenancePriority;
+import com.apartmentmanagement.entity.MaintenanceStatus;
+
+import java.time.LocalDate;
+
+/**
+ * Flat list-view row for a maintenance request, selected directly by JPQL constructor
+ * expression so no entities or proxies are created and only the listed columns are read.
+ */
+public record MaintenanceSummary(Long id, String description, MaintenanceStatus status, MaintenancePriority priority, LocalDate createdDate,
+                                 Long apartmentUnitId, String unitNumber, Long buildingId,
+                                 Long tenantId, String tenantName) {
+}
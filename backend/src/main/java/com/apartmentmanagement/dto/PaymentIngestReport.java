@@ -0,0 +1,13 @@
+package com.apartmentmanagement.dto;
+
+import java.util.List;
+
+/**
+ * Outcome of a payment file ingest. {@code rejections} lists at most the first
+ * {@code MAX_REPORTED_REJECTIONS} failures; {@code rejected} is the full count.
+ */
+public record PaymentIngestReport(long received, long accepted, long rejected, long elapsedMillis,
+                                  double rowsPerSecond, List<RejectedPayment> rejections) {
+
+    public static final int MAX_REPORTED_REJECTIONS = 100;
+}
@@ -0,0 +1,9 @@
+package com.apartmentmanagement.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/** One payment line of an ingest file (JSON, NDJSON or CSV). */
+public record PaymentRow(Long leaseId, LocalDate paymentDate, BigDecimal amount, String paymentType,
+                         String paymentMethod, String status, LocalDate dueDate) {
+}
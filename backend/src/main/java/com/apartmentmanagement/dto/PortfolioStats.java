@@ -0,0 +1,7 @@
+package com.apartmentmanagement.dto;
+
+import java.util.List;
+
+public record PortfolioStats(long totalBuildings, long totalUnits, long occupiedUnits, double occupancyRate,
+                             double potentialRent, double rentRoll, List<BuildingStats> buildings) {
+}
@@ -0,0 +1,5 @@
+package com.apartmentmanagement.dto;
+
+/** A payment line that was not written; {@code line} is its 1-based position in the file's data rows. */
+public record RejectedPayment(long line, String reason) {
+}
@@ -0,0 +1,19 @@
+package com.apartmentmanagement.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * One page of relevance-ranked search hits. Ranked results have no stable key to resume
+ * from, so these pages are addressed by number rather than by cursor.
+ */
+public record SearchPage<T>(List<T> items, int page, int size, boolean hasNext) {
+
+    /** Builds a page from rows fetched with {@code size + 1} as the limit. */
+    public static <T> SearchPage<T> of(List<T> rows, int page, int size) {
+        if (rows.size() <= size) {
+            return new SearchPage<>(rows, page, size, false);
+        }
+        return new SearchPage<>(new ArrayList<>(rows.subList(0, size)), page, size, true);
+    }
+}
@@ -0,0 +1,5 @@
+package com.apartmentmanagement.dto;
+
+/** Tenant full-text match; {@code score} is MySQL's relevance for the query. */
+public record TenantHit(Long id, String name, String email, String phone, double score) {
+}
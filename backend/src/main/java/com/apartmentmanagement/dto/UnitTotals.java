@@ -0,0 +1,5 @@
+package com.apartmentmanagement.dto;
+
+/** Per-building unit count and summed asking rent, produced by a GROUP BY query. */
+public record UnitTotals(Long buildingId, Long units, Double potentialRent) {
+}
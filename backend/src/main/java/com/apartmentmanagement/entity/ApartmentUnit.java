@@ -1,22 +1,35 @@
 package com.apartmentmanagement.entity;
 
+import com.apartmentmanagement.datasource.PooledTableIdGenerator;
 import jakarta.persistence.*;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import java.util.List;
 
 @Entity
+@DynamicUpdate
+@Table(name = "apartments", indexes = @Index(name = "idx_apartment_building", columnList = "building_id"))
 @JsonIgnoreProperties({ "hibernateLazyInitializer", "handler" })
 public class ApartmentUnit {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = "apartment_unit_seq")
+    @GenericGenerator(name = "apartment_unit_seq", type = PooledTableIdGenerator.class, parameters = {
+            @Parameter(name = "sequence_name", value = "apartment_unit_seq"), @Parameter(name = "increment_size", value = "50") })
+    @Column(name = "apartment_id")
     private Long id;
 
+    @Version
+    private Long version;
+
     private String unitNumber;
     private Integer bedrooms;
+    @Column(name = "rent_amount")
     private Double rent;
 
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "building_id")
     private Building building;
 
@@ -37,6 +50,14 @@ public class ApartmentUnit {
         this.id = id;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
     public String getUnitNumber() {
         return unitNumber;
     }
@@ -1,17 +1,30 @@
 package com.apartmentmanagement.entity;
 
+import com.apartmentmanagement.datasource.PooledTableIdGenerator;
 import jakarta.persistence.*;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import java.util.List;
 
 @Entity
+@DynamicUpdate
+@Table(name = "buildings")
 @JsonIgnoreProperties({ "hibernateLazyInitializer", "handler" })
 public class Building {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = "building_seq")
+    @GenericGenerator(name = "building_seq", type = PooledTableIdGenerator.class, parameters = {
+            @Parameter(name = "sequence_name", value = "building_seq"), @Parameter(name = "increment_size", value = "50") })
+    @Column(name = "building_id")
     private Long id;
 
+    @Version
+    private Long version;
+
+    @Column(name = "building_name")
     private String name;
     private String address;
 
@@ -28,6 +41,14 @@ public class Building {
         this.id = id;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
     public String getName() {
         return name;
     }
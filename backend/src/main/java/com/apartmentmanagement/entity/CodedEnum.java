@@ -0,0 +1,55 @@
+package com.apartmentmanagement.entity;
+
+import com.fasterxml.jackson.annotation.JsonValue;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+/**
+ * An enum stored as schema.sql's lower-case code (e.g. {@code in_progress}) and shown in the
+ * API as a label (e.g. {@code In Progress}). Input is matched against either form ignoring
+ * case, spaces, hyphens and underscores, so values written by older clients still parse.
+ */
+public interface CodedEnum {
+
+    String getCode();
+
+    @JsonValue
+    String getLabel();
+
+    default boolean matches(String normalized) {
+        return normalize(getCode()).equals(normalized) || normalize(getLabel()).equals(normalized);
+    }
+
+    static String normalize(String value) {
+        return value.strip().toLowerCase(Locale.ROOT).replaceAll("[\\s_-]+", "_");
+    }
+
+    /** Parses a code or label; blank is {@code null}, anything else unknown is an {@link IllegalArgumentException}. */
+    static <E extends Enum<E> & CodedEnum> E parse(Class<E> type, String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        String normalized = normalize(value);
+        for (E constant : type.getEnumConstants()) {
+            if (constant.matches(normalized)) {
+                return constant;
+            }
+        }
+        throw new IllegalArgumentException("Unknown " + type.getSimpleName() + " '" + value + "', expected one of "
+                + Arrays.stream(type.getEnumConstants()).map(CodedEnum::getLabel).collect(Collectors.joining(", ")));
+    }
+
+    static <E extends Enum<E> & CodedEnum> E fromCode(Class<E> type, String code) {
+        if (code == null) {
+            return null;
+        }
+        for (E constant : type.getEnumConstants()) {
+            if (constant.getCode().equals(code)) {
+                return constant;
+            }
+        }
+        throw new IllegalArgumentException("Unknown " + type.getSimpleName() + " code '" + code + "'");
+    }
+}
@@ -0,0 +1,23 @@
+package com.apartmentmanagement.entity;
+
+import jakarta.persistence.AttributeConverter;
+
+/** Stores a {@link CodedEnum} as its code; subclasses are auto-applied per enum type. */
+abstract class CodedEnumConverter<E extends Enum<E> & CodedEnum> implements AttributeConverter<E, String> {
+
+    private final Class<E> type;
+
+    CodedEnumConverter(Class<E> type) {
+        this.type = type;
+    }
+
+    @Override
+    public String convertToDatabaseColumn(E value) {
+        return value != null ? value.getCode() : null;
+    }
+
+    @Override
+    public E convertToEntityAttribute(String code) {
+        return CodedEnum.fromCode(type, code);
+    }
+}
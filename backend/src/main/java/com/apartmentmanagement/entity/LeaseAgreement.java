@@ -1,27 +1,44 @@
 package com.apartmentmanagement.entity;
 
+import com.apartmentmanagement.datasource.PooledTableIdGenerator;
 import jakarta.persistence.*;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import java.time.LocalDate;
 
 @Entity
+@DynamicUpdate
+@Table(name = "leases", indexes = {
+        @Index(name = "idx_lease_status", columnList = "lease_status, end_date"),
+        @Index(name = "idx_lease_tenant", columnList = "tenant_id"),
+        @Index(name = "idx_lease_apartment", columnList = "apartment_id")
+})
 @JsonIgnoreProperties({ "hibernateLazyInitializer", "handler" })
 public class LeaseAgreement {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = "lease_agreement_seq")
+    @GenericGenerator(name = "lease_agreement_seq", type = PooledTableIdGenerator.class, parameters = {
+            @Parameter(name = "sequence_name", value = "lease_agreement_seq"), @Parameter(name = "increment_size", value = "50") })
+    @Column(name = "lease_id")
     private Long id;
 
+    @Version
+    private Long version;
+
     private LocalDate startDate;
     private LocalDate endDate;
     private Double monthlyRent;
-    private Boolean isActive;
+    @Column(length = 20)
+    private LeaseStatus leaseStatus = LeaseStatus.PENDING;
 
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "tenant_id")
     private Tenant tenant;
 
-    @ManyToOne(fetch = FetchType.EAGER)
-    @JoinColumn(name = "apartment_unit_id")
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "apartment_id")
     private ApartmentUnit apartmentUnit;
 
     // Getters and Setters
@@ -33,6 +50,14 @@ public class LeaseAgreement {
         this.id = id;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
     public LocalDate getStartDate() {
         return startDate;
     }
@@ -57,12 +82,25 @@ public class LeaseAgreement {
         this.monthlyRent = monthlyRent;
     }
 
+    public LeaseStatus getLeaseStatus() {
+        return leaseStatus;
+    }
+
+    public void setLeaseStatus(LeaseStatus leaseStatus) {
+        this.leaseStatus = leaseStatus;
+    }
+
+    // isActive predates leaseStatus and is still what the frontend reads and sends
     public Boolean getIsActive() {
-        return isActive;
+        return leaseStatus == LeaseStatus.ACTIVE;
     }
 
     public void setIsActive(Boolean isActive) {
-        this.isActive = isActive;
+        if (Boolean.TRUE.equals(isActive)) {
+            leaseStatus = LeaseStatus.ACTIVE;
+        } else if (Boolean.FALSE.equals(isActive) && leaseStatus == LeaseStatus.ACTIVE) {
+            leaseStatus = LeaseStatus.TERMINATED;
+        }
     }
 
     public Tenant getTenant() {
@@ -0,0 +1,39 @@
+package com.apartmentmanagement.entity;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+
+/** Values of {@code leases.lease_status}. */
+public enum LeaseStatus implements CodedEnum {
+    ACTIVE("active", "Active"),
+    EXPIRED("expired", "Expired"),
+    TERMINATED("terminated", "Terminated"),
+    PENDING("pending", "Pending");
+
+    private final String code;
+    private final String label;
+
+    LeaseStatus(String code, String label) {
+        this.code = code;
+        this.label = label;
+    }
+
+    @JsonCreator
+    public static LeaseStatus parse(String value) {
+        return CodedEnum.parse(LeaseStatus.class, value);
+    }
+
+    @Override
+    public String getCode() {
+        return code;
+    }
+
+    @Override
+    public String getLabel() {
+        return label;
+    }
+
+    @Override
+    public String toString() {
+        return label;
+    }
+}
@@ -0,0 +1,11 @@
+package com.apartmentmanagement.entity;
+
+import jakarta.persistence.Converter;
+
+@Converter(autoApply = true)
+public class LeaseStatusConverter extends CodedEnumConverter<LeaseStatus> {
+
+    public LeaseStatusConverter() {
+        super(LeaseStatus.class);
+    }
+}
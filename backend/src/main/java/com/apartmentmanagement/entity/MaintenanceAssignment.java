@@ -0,0 +1,87 @@
+package com.apartmentmanagement.entity;
+
+import jakarta.persistence.*;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import org.hibernate.annotations.DynamicUpdate;
+import java.time.LocalDateTime;
+
+@Entity
+@DynamicUpdate
+@Table(name = "maintenance_assignments", indexes = {
+        @Index(name = "idx_assignment_request", columnList = "request_id"),
+        @Index(name = "idx_assignment_staff_open", columnList = "staff_id, completed_date")
+})
+@JsonIgnoreProperties({ "hibernateLazyInitializer", "handler" })
+public class MaintenanceAssignment {
+    @Id
+    // IDENTITY rather than a pooled table sequence: refilling the sequence takes a second pooled
+    // connection in the middle of a claim, and a burst of claimers holding every connection deadlocked
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "assignment_id")
+    private Long id;
+
+    @Version
+    private Long version;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "request_id", nullable = false)
+    @JsonIgnoreProperties({ "apartmentUnit", "tenant", "hibernateLazyInitializer", "handler" })
+    private MaintenanceRequest request;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "staff_id", nullable = false)
+    @JsonIgnoreProperties({ "hibernateLazyInitializer", "handler" })
+    private Staff staff;
+
+    private LocalDateTime assignedDate;
+    private LocalDateTime completedDate;
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
+    public MaintenanceRequest getRequest() {
+        return request;
+    }
+
+    public void setRequest(MaintenanceRequest request) {
+        this.request = request;
+    }
+
+    public Staff getStaff() {
+        return staff;
+    }
+
+    public void setStaff(Staff staff) {
+        this.staff = staff;
+    }
+
+    public LocalDateTime getAssignedDate() {
+        return assignedDate;
+    }
+
+    public void setAssignedDate(LocalDateTime assignedDate) {
+        this.assignedDate = assignedDate;
+    }
+
+    public LocalDateTime getCompletedDate() {
+        return completedDate;
+    }
+
+    public void setCompletedDate(LocalDateTime completedDate) {
+        this.completedDate = completedDate;
+    }
+}
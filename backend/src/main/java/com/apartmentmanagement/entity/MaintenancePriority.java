@@ -0,0 +1,39 @@
+package com.apartmentmanagement.entity;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+
+/** Values of {@code maintenance_requests.priority}. {@code emergency} keeps the API's existing label, Urgent. */
+public enum MaintenancePriority implements CodedEnum {
+    LOW("low", "Low"),
+    MEDIUM("medium", "Medium"),
+    HIGH("high", "High"),
+    EMERGENCY("emergency", "Urgent");
+
+    private final String code;
+    private final String label;
+
+    MaintenancePriority(String code, String label) {
+        this.code = code;
+        this.label = label;
+    }
+
+    @JsonCreator
+    public static MaintenancePriority parse(String value) {
+        return CodedEnum.parse(MaintenancePriority.class, value);
+    }
+
+    @Override
+    public String getCode() {
+        return code;
+    }
+
+    @Override
+    public String getLabel() {
+        return label;
+    }
+
+    @Override
+    public String toString() {
+        return label;
+    }
+}
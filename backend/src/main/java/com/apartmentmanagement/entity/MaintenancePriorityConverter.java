@@ -0,0 +1,11 @@
+package com.apartmentmanagement.entity;
+
+import jakarta.persistence.Converter;
+
+@Converter(autoApply = true)
+public class MaintenancePriorityConverter extends CodedEnumConverter<MaintenancePriority> {
+
+    public MaintenancePriorityConverter() {
+        super(MaintenancePriority.class);
+    }
+}
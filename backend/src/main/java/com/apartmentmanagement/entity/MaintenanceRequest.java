@@ -1,26 +1,49 @@
 package com.apartmentmanagement.entity;
 
+import com.apartmentmanagement.datasource.PooledTableIdGenerator;
 import jakarta.persistence.*;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import com.apartmentmanagement.service.MaintenanceEventListener;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import java.time.LocalDate;
 
 @Entity
+@DynamicUpdate
+@Table(name = "maintenance_requests", indexes = {
+        @Index(name = "idx_maintenance_status", columnList = "status"),
+        @Index(name = "idx_maintenance_priority", columnList = "priority"),
+        @Index(name = "idx_maintenance_status_priority_created", columnList = "status, priority, requested_date"),
+        @Index(name = "idx_maintenance_apartment", columnList = "apartment_id, status"),
+        @Index(name = "idx_maintenance_tenant_status", columnList = "tenant_id, status")
+})
+@EntityListeners(MaintenanceEventListener.class)
 @JsonIgnoreProperties({ "hibernateLazyInitializer", "handler" })
 public class MaintenanceRequest {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = "maintenance_request_seq")
+    @GenericGenerator(name = "maintenance_request_seq", type = PooledTableIdGenerator.class, parameters = {
+            @Parameter(name = "sequence_name", value = "maintenance_request_seq"), @Parameter(name = "increment_size", value = "50") })
+    @Column(name = "request_id")
     private Long id;
 
+    @Version
+    private Long version;
+
     private String description;
-    private String status;
-    private String priority;
+    @Column(length = 20)
+    private MaintenanceStatus status = MaintenanceStatus.PENDING;
+    @Column(length = 20)
+    private MaintenancePriority priority = MaintenancePriority.MEDIUM;
+    @Column(name = "requested_date")
     private LocalDate createdDate;
 
-    @ManyToOne(fetch = FetchType.EAGER)
-    @JoinColumn(name = "apartment_unit_id")
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "apartment_id")
     private ApartmentUnit apartmentUnit;
 
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "tenant_id")
     private Tenant tenant;
 
@@ -33,6 +56,14 @@ public class MaintenanceRequest {
         this.id = id;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
     public String getDescription() {
         return description;
     }
@@ -41,19 +72,19 @@ public class MaintenanceRequest {
         this.description = description;
     }
 
-    public String getStatus() {
+    public MaintenanceStatus getStatus() {
         return status;
     }
 
-    public void setStatus(String status) {
+    public void setStatus(MaintenanceStatus status) {
         this.status = status;
     }
 
-    public String getPriority() {
+    public MaintenancePriority getPriority() {
         return priority;
     }
 
-    public void setPriority(String priority) {
+    public void setPriority(MaintenancePriority priority) {
         this.priority = priority;
     }
 
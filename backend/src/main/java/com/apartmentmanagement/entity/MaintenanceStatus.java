@@ -0,0 +1,39 @@
+package com.apartmentmanagement.entity;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+
+/** Values of {@code maintenance_requests.status}. */
+public enum MaintenanceStatus implements CodedEnum {
+    PENDING("pending", "Pending"),
+    IN_PROGRESS("in_progress", "In Progress"),
+    COMPLETED("completed", "Completed"),
+    CANCELLED("cancelled", "Cancelled");
+
+    private final String code;
+    private final String label;
+
+    MaintenanceStatus(String code, String label) {
+        this.code = code;
+        this.label = label;
+    }
+
+    @JsonCreator
+    public static MaintenanceStatus parse(String value) {
+        return CodedEnum.parse(MaintenanceStatus.class, value);
+    }
+
+    @Override
+    public String getCode() {
+        return code;
+    }
+
+    @Override
+    public String getLabel() {
+        return label;
+    }
+
+    @Override
+    public String toString() {
+        return label;
+    }
+}
@@ -0,0 +1,11 @@
+package com.apartmentmanagement.entity;
+
+import jakarta.persistence.Converter;
+
+@Converter(autoApply = true)
+public class MaintenanceStatusConverter extends CodedEnumConverter<MaintenanceStatus> {
+
+    public MaintenanceStatusConverter() {
+        super(MaintenanceStatus.class);
+    }
+}
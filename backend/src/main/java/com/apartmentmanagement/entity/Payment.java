@@ -0,0 +1,150 @@
+package com.apartmentmanagement.entity;
+
+import com.apartmentmanagement.datasource.PooledTableIdGenerator;
+import jakarta.persistence.*;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.annotations.UpdateTimestamp;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Entity
+@DynamicUpdate
+@Table(name = "payments", indexes = {
+        @Index(name = "idx_payment_lease", columnList = "lease_id"),
+        @Index(name = "idx_payment_status", columnList = "status")
+})
+@JsonIgnoreProperties({ "hibernateLazyInitializer", "handler" })
+public class Payment {
+    @Id
+    @GeneratedValue(generator = "payment_seq")
+    @GenericGenerator(name = "payment_seq", type = PooledTableIdGenerator.class, parameters = {
+            @Parameter(name = "sequence_name", value = "payment_seq"), @Parameter(name = "increment_size", value = "50") })
+    @Column(name = "payment_id")
+    private Long id;
+
+    @Version
+    private Long version;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "lease_id", nullable = false)
+    @JsonIgnoreProperties({ "tenant", "apartmentUnit", "hibernateLazyInitializer", "handler" })
+    private LeaseAgreement lease;
+
+    @Column(nullable = false)
+    private LocalDate paymentDate;
+
+    @Column(nullable = false, precision = 10, scale = 2)
+    private BigDecimal amount;
+
+    @Column(length = 20)
+    private String paymentType;
+
+    @Column(nullable = false, length = 20)
+    private String paymentMethod;
+
+    @Column(length = 20)
+    private String status;
+
+    private LocalDate dueDate;
+
+    @CreationTimestamp
+    @Column(updatable = false)
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    private LocalDateTime updatedAt;
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
+    public LeaseAgreement getLease() {
+        return lease;
+    }
+
+    public void setLease(LeaseAgreement lease) {
+        this.lease = lease;
+    }
+
+    public LocalDate getPaymentDate() {
+        return paymentDate;
+    }
+
+    public void setPaymentDate(LocalDate paymentDate) {
+        this.paymentDate = paymentDate;
+    }
+
+    public BigDecimal getAmount() {
+        return amount;
+    }
+
+    public void setAmount(BigDecimal amount) {
+        this.amount = amount;
+    }
+
+    public String getPaymentType() {
+        return paymentType;
+    }
+
+    public void setPaymentType(String paymentType) {
+        this.paymentType = paymentType;
+    }
+
+    public String getPaymentMethod() {
+        return paymentMethod;
+    }
+
+    public void setPaymentMethod(String paymentMethod) {
+        this.paymentMethod = paymentMethod;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public LocalDate getDueDate() {
+        return dueDate;
+    }
+
+    public void setDueDate(LocalDate dueDate) {
+        this.dueDate = dueDate;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
@@ -0,0 +1,39 @@
+package com.apartmentmanagement.entity;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+
+/** Values of {@code staff.role}. */
+public enum StaffRole implements CodedEnum {
+    MANAGER("manager", "Manager"),
+    MAINTENANCE("maintenance", "Maintenance"),
+    ADMIN("admin", "Admin"),
+    RECEPTIONIST("receptionist", "Receptionist");
+
+    private final String code;
+    private final String label;
+
+    StaffRole(String code, String label) {
+        this.code = code;
+        this.label = label;
+    }
+
+    @JsonCreator
+    public static StaffRole parse(String value) {
+        return CodedEnum.parse(StaffRole.class, value);
+    }
+
+    @Override
+    public String getCode() {
+        return code;
+    }
+
+    @Override
+    public String getLabel() {
+        return label;
+    }
+
+    @Override
+    public String toString() {
+        return label;
+    }
+}
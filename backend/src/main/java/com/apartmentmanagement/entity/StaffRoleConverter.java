@@ -0,0 +1,11 @@
+package com.apartmentmanagement.entity;
+
+import jakarta.persistence.Converter;
+
+@Converter(autoApply = true)
+public class StaffRoleConverter extends CodedEnumConverter<StaffRole> {
+
+    public StaffRoleConverter() {
+        super(StaffRole.class);
+    }
+}
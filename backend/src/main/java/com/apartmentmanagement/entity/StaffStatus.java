@@ -0,0 +1,38 @@
+package com.apartmentmanagement.entity;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+
+/** Values of {@code staff.status}; only active staff can claim work. */
+public enum StaffStatus implements CodedEnum {
+    ACTIVE("active", "Active"),
+    INACTIVE("inactive", "Inactive"),
+    TERMINATED("terminated", "Terminated");
+
+    private final String code;
+    private final String label;
+
+    StaffStatus(String code, String label) {
+        this.code = code;
+        this.label = label;
+    }
+
+    @JsonCreator
+    public static StaffStatus parse(String value) {
+        return CodedEnum.parse(StaffStatus.class, value);
+    }
+
+    @Override
+    public String getCode() {
+        return code;
+    }
+
+    @Override
+    public String getLabel() {
+        return label;
+    }
+
+    @Override
+    public String toString() {
+        return label;
+    }
+}
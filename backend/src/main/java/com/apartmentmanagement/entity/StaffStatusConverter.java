@@ -0,0 +1,11 @@
+package com.apartmentmanagement.entity;
+
+import jakarta.persistence.Converter;
+
+@Converter(autoApply = true)
+public class StaffStatusConverter extends CodedEnumConverter<StaffStatus> {
+
+    public StaffStatusConverter() {
+        super(StaffStatus.class);
+    }
+}
@@ -1,17 +1,29 @@
 package com.apartmentmanagement.entity;
 
+import com.apartmentmanagement.datasource.PooledTableIdGenerator;
 import jakarta.persistence.*;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import java.util.List;
 
 @Entity
+@DynamicUpdate
+@Table(name = "tenants", indexes = @Index(name = "idx_tenant_email", columnList = "email"))
 @JsonIgnoreProperties({ "hibernateLazyInitializer", "handler" })
 public class Tenant {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = "tenant_seq")
+    @GenericGenerator(name = "tenant_seq", type = PooledTableIdGenerator.class, parameters = {
+            @Parameter(name = "sequence_name", value = "tenant_seq"), @Parameter(name = "increment_size", value = "50") })
+    @Column(name = "tenant_id")
     private Long id;
 
+    @Version
+    private Long version;
+
     private String name;
     private String email;
     private String phone;
@@ -33,6 +45,14 @@ public class Tenant {
         this.id = id;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
     public String getName() {
         return name;
     }
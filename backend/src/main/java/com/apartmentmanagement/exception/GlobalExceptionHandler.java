@@ -1,10 +1,17 @@
 package com.apartmentmanagement.exception;
 
+import jakarta.persistence.OptimisticLockException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
+import org.springframework.web.server.ResponseStatusException;
 import org.hibernate.LazyInitializationException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -12,20 +19,55 @@ import java.util.Map;
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+    private static final Logger log = LoggerFactory.getLogger(GlobalExceptionHandler.class);
+
     @ExceptionHandler(LazyInitializationException.class)
     public ResponseEntity<Map<String, String>> handleLazyInitializationException(LazyInitializationException e) {
         Map<String, String> error = new HashMap<>();
         error.put("error", "LazyInitializationException");
         error.put("message", "Failed to load lazy relationship. " + e.getMessage());
+        log.error("Lazy relationship accessed outside a session", e);
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(error);
     }
 
+    @ExceptionHandler({ OptimisticLockingFailureException.class, OptimisticLockException.class })
+    public ResponseEntity<Map<String, String>> handleOptimisticLockingFailure(Exception e) {
+        Map<String, String> error = new HashMap<>();
+        error.put("error", "Conflict");
+        error.put("message", "The record was changed by another request. Reload it and retry with the current version.");
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
+    }
+
+    // Malformed bodies and unparseable parameters (e.g. an unknown status) are the client's error
+    @ExceptionHandler({ HttpMessageNotReadableException.class, MethodArgumentTypeMismatchException.class })
+    public ResponseEntity<Map<String, String>> handleBadInput(Exception e) {
+        Map<String, String> error = new HashMap<>();
+        error.put("error", "Bad Request");
+        String message = "Malformed request";
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof IllegalArgumentException) {
+                message = cause.getMessage();
+                break;
+            }
+        }
+        error.put("message", message);
+        return ResponseEntity.badRequest().body(error);
+    }
+
+    @ExceptionHandler(ResponseStatusException.class)
+    public ResponseEntity<Map<String, String>> handleResponseStatusException(ResponseStatusException e) {
+        Map<String, String> error = new HashMap<>();
+        error.put("error", HttpStatus.valueOf(e.getStatusCode().value()).getReasonPhrase());
+        error.put("message", e.getReason() != null ? e.getReason() : e.getMessage());
+        return ResponseEntity.status(e.getStatusCode()).body(error);
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<Map<String, String>> handleGenericException(Exception e) {
         Map<String, String> error = new HashMap<>();
         error.put("error", e.getClass().getSimpleName());
         error.put("message", e.getMessage() != null ? e.getMessage() : "An unexpected error occurred");
-        e.printStackTrace(); // Print stack trace for debugging
+        log.error("Unhandled exception", e);
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(error);
     }
 }
@@ -0,0 +1,62 @@
+package com.apartmentmanagement.monitoring;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Logs repository calls slower than {@code app.slow-query.threshold} with the repository,
+ * method and (abbreviated) arguments. Timings for every call are already published by Spring
+ * Boot as {@code spring.data.repository.invocations}; this adds which call and which parameters.
+ */
+@Aspect
+@Component
+public class SlowRepositoryCallLogger {
+
+    private static final Logger log = LoggerFactory.getLogger(SlowRepositoryCallLogger.class);
+    private static final int MAX_ARG_LENGTH = 200;
+
+    @Value("${app.slow-query.threshold:PT0.5S}")
+    private Duration threshold;
+
+    @Around("bean(*Repository)")
+    public Object logSlowCalls(ProceedingJoinPoint call) throws Throwable {
+        long started = System.nanoTime();
+        try {
+            return call.proceed();
+        } finally {
+            long elapsedNanos = System.nanoTime() - started;
+            if (elapsedNanos > threshold.toNanos()) {
+                log.atWarn()
+                        .addKeyValue("repository", call.getSignature().getDeclaringType().getSimpleName())
+                        .addKeyValue("method", call.getSignature().getName())
+                        .addKeyValue("args", describe(call.getArgs()))
+                        .addKeyValue("elapsedMs", elapsedNanos / 1_000_000)
+                        .log("Slow repository call");
+            }
+        }
+    }
+
+    private static List<String> describe(Object[] args) {
+        List<String> described = new ArrayList<>(args.length);
+        for (Object arg : args) {
+            String text;
+            if (arg instanceof Collection<?> collection) {
+                text = arg.getClass().getSimpleName() + "[size=" + collection.size() + "]";
+            } else {
+                text = String.valueOf(arg);
+            }
+            described.add(text.length() > MAX_ARG_LENGTH ? text.substring(0, MAX_ARG_LENGTH) + "..." : text);
+        }
+        return described;
+    }
+}
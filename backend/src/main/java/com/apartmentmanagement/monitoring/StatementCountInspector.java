@@ -0,0 +1,34 @@
+package com.apartmentmanagement.monitoring;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Counts the SQL statements Hibernate prepares on the current thread. Registered by class name
+ * in {@code hibernate.session_factory.statement_inspector}, so Hibernate instantiates it and the
+ * count has to live in a static thread-local. The SQL itself is passed through unchanged.
+ */
+public class StatementCountInspector implements StatementInspector {
+
+    private static final ThreadLocal<int[]> COUNT = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        int[] count = COUNT.get();
+        if (count != null) {
+            count[0]++;
+        }
+        return sql;
+    }
+
+    /** Starts counting on this thread. */
+    public static void start() {
+        COUNT.set(new int[1]);
+    }
+
+    /** Stops counting on this thread and returns the statements seen since {@link #start()}, or -1 if not started. */
+    public static int stop() {
+        int[] count = COUNT.get();
+        COUNT.remove();
+        return count != null ? count[0] : -1;
+    }
+}
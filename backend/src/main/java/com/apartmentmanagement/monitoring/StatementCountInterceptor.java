@@ -0,0 +1,44 @@
+package com.apartmentmanagement.monitoring;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Records how many SQL statements each request ran, as the {@code http.server.requests.statements}
+ * distribution tagged like {@code http.server.requests} (method and URI template). Only
+ * statements on the request thread are counted, so async exports and ingest workers are not.
+ */
+public class StatementCountInterceptor implements HandlerInterceptor {
+
+    private final MeterRegistry registry;
+
+    public StatementCountInterceptor(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        StatementCountInspector.start();
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        int statements = StatementCountInspector.stop();
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        if (statements < 0 || pattern == null) {
+            return;
+        }
+        DistributionSummary.builder("http.server.requests.statements")
+                .description("SQL statements executed per request")
+                .baseUnit("statements")
+                .tag("method", request.getMethod())
+                .tag("uri", pattern.toString())
+                .register(registry)
+                .record(statements);
+    }
+}
@@ -1,13 +1,29 @@
 package com.apartmentmanagement.repository;
 
+import com.apartmentmanagement.dto.UnitTotals;
 import com.apartmentmanagement.entity.ApartmentUnit;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface ApartmentUnitRepository extends JpaRepository<ApartmentUnit, Long> {
+    @Override
+    @EntityGraph(attributePaths = "building")
+    @Cacheable("apartmentUnits")
+    List<ApartmentUnit> findAll();
+    @EntityGraph(attributePaths = "building")
+    List<ApartmentUnit> findByIdGreaterThanOrderByIdAsc(Long after, Limit limit);
+    @Query("SELECT new com.apartmentmanagement.dto.UnitTotals(u.building.id, COUNT(u), SUM(u.rent)) FROM ApartmentUnit u GROUP BY u.building.id")
+    List<UnitTotals> summarizeByBuilding();
+    @Query("SELECT new com.apartmentmanagement.dto.UnitTotals(u.building.id, COUNT(u), SUM(u.rent)) FROM ApartmentUnit u WHERE u.building.id = :buildingId GROUP BY u.building.id")
+    List<UnitTotals> summarizeBuilding(@Param("buildingId") Long buildingId);
+    @Query("SELECT u.building.id FROM ApartmentUnit u WHERE u.id = :id")
+    Optional<Long> findBuildingIdById(@Param("id") Long id);
 }
-
-
-
-
@@ -1,13 +1,16 @@
 package com.apartmentmanagement.repository;
 
 import com.apartmentmanagement.entity.Building;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
+import java.util.List;
 
 @Repository
 public interface BuildingRepository extends JpaRepository<Building, Long> {
+    @Override
+    @Cacheable("buildings")
+    List<Building> findAll();
+    List<Building> findByIdGreaterThanOrderByIdAsc(Long after, Limit limit);
 }
-
-
-
-
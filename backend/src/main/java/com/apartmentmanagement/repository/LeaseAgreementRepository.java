@@ -1,17 +1,59 @@
 package com.apartmentmanagement.repository;
 
+import com.apartmentmanagement.dto.LeaseSummary;
+import com.apartmentmanagement.dto.LeaseTotals;
 import com.apartmentmanagement.entity.LeaseAgreement;
+import com.apartmentmanagement.entity.Tenant;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
 
 @Repository
 public interface LeaseAgreementRepository extends JpaRepository<LeaseAgreement, Long> {
-    @Query("SELECT l FROM LeaseAgreement l WHERE l.isActive = true")
-    List<LeaseAgreement> findActiveLeases();
-}
-
-
-
+    String SUMMARY_SELECT = "SELECT new com.apartmentmanagement.dto.LeaseSummary(l.id, l.startDate, l.endDate, l.monthlyRent, l.leaseStatus, "
+            + "t.id, t.name, u.id, u.unitNumber, b.id, b.name) "
+            + "FROM LeaseAgreement l LEFT JOIN l.tenant t LEFT JOIN l.apartmentUnit u LEFT JOIN u.building b";
 
+    @Override
+    @EntityGraph(attributePaths = { "tenant", "apartmentUnit", "apartmentUnit.building" })
+    List<LeaseAgreement> findAll();
+    @Query(SUMMARY_SELECT + " ORDER BY l.id")
+    List<LeaseSummary> findAllSummaries();
+    @Query(SUMMARY_SELECT + " WHERE l.leaseStatus = ACTIVE ORDER BY l.id")
+    List<LeaseSummary> findActiveLeases();
+    @Query("SELECT DISTINCT t FROM LeaseAgreement l JOIN l.tenant t WHERE l.apartmentUnit.building.id = :buildingId")
+    List<Tenant> findTenantsByBuildingId(@Param("buildingId") Long buildingId);
+    @Query("SELECT DISTINCT t FROM LeaseAgreement l JOIN l.tenant t WHERE l.apartmentUnit.building.id = :buildingId AND l.leaseStatus = ACTIVE")
+    List<Tenant> findActiveTenantsByBuildingId(@Param("buildingId") Long buildingId);
+    @Query(SUMMARY_SELECT + " WHERE l.id > :after ORDER BY l.id")
+    List<LeaseSummary> findSummariesAfter(@Param("after") Long after, Limit limit);
+    @Query("SELECT new com.apartmentmanagement.dto.LeaseTotals(u.building.id, COUNT(DISTINCT u.id), SUM(l.monthlyRent)) FROM LeaseAgreement l JOIN l.apartmentUnit u WHERE l.leaseStatus = ACTIVE GROUP BY u.building.id")
+    List<LeaseTotals> summarizeActiveByBuilding();
+    @Query("SELECT new com.apartmentmanagement.dto.LeaseTotals(u.building.id, COUNT(DISTINCT u.id), SUM(l.monthlyRent)) FROM LeaseAgreement l JOIN l.apartmentUnit u WHERE l.leaseStatus = ACTIVE AND u.building.id = :buildingId GROUP BY u.building.id")
+    List<LeaseTotals> summarizeActiveForBuilding(@Param("buildingId") Long buildingId);
+    @Query("SELECT l.id FROM LeaseAgreement l WHERE l.id IN :ids")
+    Set<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+    // Served by idx_lease_status: only still-active leases past their end date are visited
+    @Query("SELECT l.id FROM LeaseAgreement l WHERE l.leaseStatus = ACTIVE AND l.endDate < :today ORDER BY l.endDate, l.id")
+    List<Long> findExpiredActiveIds(@Param("today") LocalDate today, Limit limit);
+    // VERSIONED bumps @Version so a concurrent edit of an expiring lease fails instead of reviving it
+    @Modifying
+    @Query("UPDATE VERSIONED LeaseAgreement l SET l.leaseStatus = EXPIRED WHERE l.id IN :ids AND l.leaseStatus = ACTIVE")
+    int deactivate(@Param("ids") Collection<Long> ids);
+    // Integer.MIN_VALUE makes Connector/J stream rows instead of buffering the whole result set
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+    @Query("SELECT l FROM LeaseAgreement l LEFT JOIN FETCH l.tenant LEFT JOIN FETCH l.apartmentUnit u LEFT JOIN FETCH u.building ORDER BY l.id")
+    Stream<LeaseAgreement> streamAll();
+}
@@ -0,0 +1,16 @@
+package com.apartmentmanagement.repository;
+
+import com.apartmentmanagement.entity.MaintenanceAssignment;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import java.util.List;
+
+@Repository
+public interface MaintenanceAssignmentRepository extends JpaRepository<MaintenanceAssignment, Long> {
+    @Query("SELECT a FROM MaintenanceAssignment a JOIN FETCH a.request WHERE a.staff.id = :staffId ORDER BY a.id DESC")
+    List<MaintenanceAssignment> findByStaffId(@Param("staffId") Long staffId);
+    @Query("SELECT a FROM MaintenanceAssignment a JOIN FETCH a.request WHERE a.staff.id = :staffId AND a.completedDate IS NULL ORDER BY a.id DESC")
+    List<MaintenanceAssignment> findOpenByStaffId(@Param("staffId") Long staffId);
+}
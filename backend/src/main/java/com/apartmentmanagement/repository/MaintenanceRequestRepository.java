@@ -1,20 +1,50 @@
 package com.apartmentmanagement.repository;
 
+import com.apartmentmanagement.dto.MaintenanceSummary;
+import com.apartmentmanagement.entity.MaintenancePriority;
 import com.apartmentmanagement.entity.MaintenanceRequest;
+import com.apartmentmanagement.entity.MaintenanceStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
-public interface MaintenanceRequestRepository extends JpaRepository<MaintenanceRequest, Long> {
-    List<MaintenanceRequest> findByStatus(String status);
-    List<MaintenanceRequest> findByPriority(String priority);
-    @Query("SELECT mr FROM MaintenanceRequest mr WHERE mr.apartmentUnit.building.id = :buildingId")
-    List<MaintenanceRequest> findByBuildingId(@Param("buildingId") Long buildingId);
-}
-
-
-
+public interface MaintenanceRequestRepository extends JpaRepository<MaintenanceRequest, Long>,
+        JpaSpecificationExecutor<MaintenanceRequest>, MaintenanceSummaryQueries {
+    String SUMMARY_SELECT = "SELECT new com.apartmentmanagement.dto.MaintenanceSummary(mr.id, mr.description, mr.status, mr.priority, "
+            + "mr.createdDate, u.id, u.unitNumber, b.id, t.id, t.name) "
+            + "FROM MaintenanceRequest mr LEFT JOIN mr.apartmentUnit u LEFT JOIN u.building b LEFT JOIN mr.tenant t";
 
+    @Override
+    @EntityGraph(attributePaths = { "tenant", "apartmentUnit", "apartmentUnit.building" })
+    List<MaintenanceRequest> findAll();
+    @Query(SUMMARY_SELECT + " ORDER BY mr.id")
+    List<MaintenanceSummary> findAllSummaries();
+    @Query(SUMMARY_SELECT + " WHERE mr.status = :status ORDER BY mr.id")
+    List<MaintenanceSummary> findByStatus(@Param("status") MaintenanceStatus status);
+    @Query(SUMMARY_SELECT + " WHERE mr.priority = :priority ORDER BY mr.id")
+    List<MaintenanceSummary> findByPriority(@Param("priority") MaintenancePriority priority);
+    @Query(SUMMARY_SELECT + " WHERE u.building.id = :buildingId ORDER BY mr.id")
+    List<MaintenanceSummary> findByBuildingId(@Param("buildingId") Long buildingId);
+    @Query(SUMMARY_SELECT + " WHERE mr.id > :after ORDER BY mr.id")
+    List<MaintenanceSummary> findSummariesAfter(@Param("after") Long after, Limit limit);
+    // Next pending requests in queue order (idx_maintenance_queue), locked for the calling transaction.
+    // SKIP LOCKED passes over rows another claimer holds, so concurrent claims never wait on or
+    // return the same request.
+    @Query(value = "SELECT * FROM maintenance_requests WHERE status = 'pending' "
+            + "ORDER BY priority_rank, requested_date, request_id LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<MaintenanceRequest> lockNextPending(@Param("limit") int limit);
+    // Integer.MIN_VALUE makes Connector/J stream rows instead of buffering the whole result set
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+    @Query("SELECT mr FROM MaintenanceRequest mr LEFT JOIN FETCH mr.tenant LEFT JOIN FETCH mr.apartmentUnit u LEFT JOIN FETCH u.building ORDER BY mr.id")
+    Stream<MaintenanceRequest> streamAll();
+}
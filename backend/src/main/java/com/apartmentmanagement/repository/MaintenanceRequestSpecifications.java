@@ -0,0 +1,62 @@
+package com.apartmentmanagement.repository;
+
+import com.apartmentmanagement.entity.MaintenancePriority;
+import com.apartmentmanagement.entity.MaintenanceRequest;
+import com.apartmentmanagement.entity.MaintenanceStatus;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+
+/**
+ * Composable filters for {@link MaintenanceRequestRepository}. Each factory returns
+ * {@code null} for a missing value so that unset criteria drop out of the combined query.
+ */
+public final class MaintenanceRequestSpecifications {
+
+    private MaintenanceRequestSpecifications() {
+    }
+
+    public static Specification<MaintenanceRequest> matching(MaintenanceStatus status, MaintenancePriority priority, Long buildingId, Long unitId,
+                                                             Long tenantId, LocalDate createdFrom, LocalDate createdTo) {
+        return Specification.where(hasStatus(status))
+                .and(hasPriority(priority))
+                .and(inBuilding(buildingId))
+                .and(forUnit(unitId))
+                .and(forTenant(tenantId))
+                .and(createdOnOrAfter(createdFrom))
+                .and(createdOnOrBefore(createdTo));
+    }
+
+    public static Specification<MaintenanceRequest> hasStatus(MaintenanceStatus status) {
+        return status == null ? null : (root, query, cb) -> cb.equal(root.get("status"), status);
+    }
+
+    public static Specification<MaintenanceRequest> hasPriority(MaintenancePriority priority) {
+        return priority == null ? null : (root, query, cb) -> cb.equal(root.get("priority"), priority);
+    }
+
+    public static Specification<MaintenanceRequest> inBuilding(Long buildingId) {
+        return buildingId == null ? null
+                : (root, query, cb) -> cb.equal(root.get("apartmentUnit").get("building").get("id"), buildingId);
+    }
+
+    public static Specification<MaintenanceRequest> forUnit(Long unitId) {
+        return unitId == null ? null : (root, query, cb) -> cb.equal(root.get("apartmentUnit").get("id"), unitId);
+    }
+
+    public static Specification<MaintenanceRequest> forTenant(Long tenantId) {
+        return tenantId == null ? null : (root, query, cb) -> cb.equal(root.get("tenant").get("id"), tenantId);
+    }
+
+    public static Specification<MaintenanceRequest> createdOnOrAfter(LocalDate from) {
+        return from == null ? null : (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("createdDate"), from);
+    }
+
+    public static Specification<MaintenanceRequest> createdOnOrBefore(LocalDate to) {
+        return to == null ? null : (root, query, cb) -> cb.lessThanOrEqualTo(root.get("createdDate"), to);
+    }
+
+    public static Specification<MaintenanceRequest> idGreaterThan(Long after) {
+        return after == null ? null : (root, query, cb) -> cb.greaterThan(root.get("id"), after);
+    }
+}
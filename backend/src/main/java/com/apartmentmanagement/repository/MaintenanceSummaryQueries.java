@@ -0,0 +1,14 @@
+package com.apartmentmanagement.repository;
+
+import com.apartmentmanagement.dto.MaintenanceSummary;
+import com.apartmentmanagement.entity.MaintenanceRequest;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+/** Repository fragment that runs a {@link Specification} filter but selects {@link MaintenanceSummary} rows. */
+public interface MaintenanceSummaryQueries {
+
+    /** Matching rows ordered by id, at most {@code limit} of them. */
+    List<MaintenanceSummary> findSummaries(Specification<MaintenanceRequest> spec, int limit);
+}
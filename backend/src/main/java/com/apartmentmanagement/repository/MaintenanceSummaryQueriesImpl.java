@@ -0,0 +1,44 @@
+package com.apartmentmanagement.repository;
+
+import com.apartmentmanagement.dto.MaintenanceSummary;
+import com.apartmentmanagement.entity.ApartmentUnit;
+import com.apartmentmanagement.entity.Building;
+import com.apartmentmanagement.entity.MaintenanceRequest;
+import com.apartmentmanagement.entity.Tenant;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+class MaintenanceSummaryQueriesImpl implements MaintenanceSummaryQueries {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<MaintenanceSummary> findSummaries(Specification<MaintenanceRequest> spec, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<MaintenanceSummary> query = cb.createQuery(MaintenanceSummary.class);
+        Root<MaintenanceRequest> root = query.from(MaintenanceRequest.class);
+        Join<MaintenanceRequest, ApartmentUnit> unit = root.join("apartmentUnit", JoinType.LEFT);
+        Join<ApartmentUnit, Building> building = unit.join("building", JoinType.LEFT);
+        Join<MaintenanceRequest, Tenant> tenant = root.join("tenant", JoinType.LEFT);
+
+        query.select(cb.construct(MaintenanceSummary.class,
+                root.get("id"), root.get("description"), root.get("status"), root.get("priority"), root.get("createdDate"),
+                unit.get("id"), unit.get("unitNumber"), building.get("id"), tenant.get("id"), tenant.get("name")));
+        Predicate predicate = spec != null ? spec.toPredicate(root, query, cb) : null;
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(cb.asc(root.get("id")));
+        return entityManager.createQuery(query).setMaxResults(limit).getResultList();
+    }
+}
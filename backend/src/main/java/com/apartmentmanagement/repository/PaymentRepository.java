@@ -0,0 +1,19 @@
+package com.apartmentmanagement.repository;
+
+import com.apartmentmanagement.entity.Payment;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+import java.util.List;
+
+@Repository
+public interface PaymentRepository extends JpaRepository<Payment, Long> {
+    @Override
+    @EntityGraph(attributePaths = "lease")
+    List<Payment> findAll();
+    @EntityGraph(attributePaths = "lease")
+    List<Payment> findByIdGreaterThanOrderByIdAsc(Long after, Limit limit);
+    @EntityGraph(attributePaths = "lease")
+    List<Payment> findByLeaseIdOrderByPaymentDateDesc(Long leaseId);
+}
@@ -0,0 +1,9 @@
+package com.apartmentmanagement.repository;
+
+import com.apartmentmanagement.entity.Staff;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface StaffRepository extends JpaRepository<Staff, Long> {
+}
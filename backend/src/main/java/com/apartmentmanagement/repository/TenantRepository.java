@@ -1,13 +1,12 @@
 package com.apartmentmanagement.repository;
 
 import com.apartmentmanagement.entity.Tenant;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
+import java.util.List;
 
 @Repository
 public interface TenantRepository extends JpaRepository<Tenant, Long> {
+    List<Tenant> findByIdGreaterThanOrderByIdAsc(Long after, Limit limit);
 }
-
-
-
-
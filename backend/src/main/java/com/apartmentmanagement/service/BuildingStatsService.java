@@ -0,0 +1,84 @@
+package com.apartmentmanagement.service;
+
+import com.apartmentmanagement.dto.BuildingStats;
+import com.apartmentmanagement.dto.LeaseTotals;
+import com.apartmentmanagement.dto.PortfolioStats;
+import com.apartmentmanagement.dto.UnitTotals;
+import com.apartmentmanagement.entity.Building;
+import com.apartmentmanagement.repository.ApartmentUnitRepository;
+import com.apartmentmanagement.repository.BuildingRepository;
+import com.apartmentmanagement.repository.LeaseAgreementRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Occupancy and rent-roll figures computed by GROUP BY queries, so the dashboard never
+ * has to download units or leases to total them.
+ */
+@Service
+public class BuildingStatsService {
+
+    @Autowired
+    private BuildingRepository buildingRepository;
+
+    @Autowired
+    private ApartmentUnitRepository apartmentUnitRepository;
+
+    @Autowired
+    private LeaseAgreementRepository leaseAgreementRepository;
+
+    @Transactional(readOnly = true)
+    public BuildingStats getBuildingStats(Long buildingId) {
+        Building building = buildingRepository.findById(buildingId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Building " + buildingId + " not found"));
+        UnitTotals units = apartmentUnitRepository.summarizeBuilding(buildingId).stream().findFirst().orElse(null);
+        LeaseTotals leases = leaseAgreementRepository.summarizeActiveForBuilding(buildingId).stream().findFirst().orElse(null);
+        return toStats(building, units, leases);
+    }
+
+    @Transactional(readOnly = true)
+    public PortfolioStats getPortfolioStats() {
+        Map<Long, UnitTotals> units = apartmentUnitRepository.summarizeByBuilding().stream()
+                .collect(Collectors.toMap(UnitTotals::buildingId, Function.identity()));
+        Map<Long, LeaseTotals> leases = leaseAgreementRepository.summarizeActiveByBuilding().stream()
+                .collect(Collectors.toMap(LeaseTotals::buildingId, Function.identity()));
+
+        List<BuildingStats> buildings = new ArrayList<>();
+        long totalUnits = 0;
+        long occupiedUnits = 0;
+        double potentialRent = 0;
+        double rentRoll = 0;
+        for (Building building : buildingRepository.findAll()) {
+            BuildingStats stats = toStats(building, units.get(building.getId()), leases.get(building.getId()));
+            buildings.add(stats);
+            totalUnits += stats.totalUnits();
+            occupiedUnits += stats.occupiedUnits();
+            potentialRent += stats.potentialRent();
+            rentRoll += stats.rentRoll();
+        }
+        return new PortfolioStats(buildings.size(), totalUnits, occupiedUnits, rate(occupiedUnits, totalUnits),
+                potentialRent, rentRoll, buildings);
+    }
+
+    private static BuildingStats toStats(Building building, UnitTotals units, LeaseTotals leases) {
+        long totalUnits = units != null && units.units() != null ? units.units() : 0;
+        double potentialRent = units != null && units.potentialRent() != null ? units.potentialRent() : 0;
+        long occupiedUnits = leases != null && leases.occupiedUnits() != null ? leases.occupiedUnits() : 0;
+        double rentRoll = leases != null && leases.rentRoll() != null ? leases.rentRoll() : 0;
+        return new BuildingStats(building.getId(), building.getName(), totalUnits, occupiedUnits,
+                rate(occupiedUnits, totalUnits), potentialRent, rentRoll);
+    }
+
+    private static double rate(long part, long whole) {
+        return whole == 0 ? 0 : (double) part / whole;
+    }
+}
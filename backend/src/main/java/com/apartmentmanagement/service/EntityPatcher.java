@@ -0,0 +1,64 @@
+package com.apartmentmanagement.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.metamodel.EntityType;
+import jakarta.persistence.metamodel.SingularAttribute;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+
+/**
+ * Applies a JSON merge patch to a managed entity. Only the properties present in the patch
+ * change, and with {@code @DynamicUpdate} the UPDATE lists only those columns. A {@code version}
+ * in the patch must match the stored one; the UPDATE at commit re-checks it, so an edit that
+ * lands between the read and the write is also rejected.
+ */
+@Component
+public class EntityPatcher {
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private EntityReferences entityReferences;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Transactional
+    public <T> T patch(Class<T> type, Long id, JsonNode patch) {
+        if (!(patch instanceof ObjectNode changes)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "PATCH body must be a JSON object");
+        }
+        T entity = entityManager.find(type, id);
+        if (entity == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, type.getSimpleName() + " " + id + " not found");
+        }
+        EntityType<T> entityType = entityManager.getMetamodel().entity(type);
+        changes = changes.deepCopy();
+        changes.remove("id");
+        JsonNode expectedVersion = changes.remove("version");
+        for (SingularAttribute<? super T, ?> attribute : entityType.getSingularAttributes()) {
+            if (attribute.isVersion() && expectedVersion != null && !expectedVersion.isNull()
+                    && expectedVersion.asLong() != ((Number) EntityReferences.read(attribute, entity)).longValue()) {
+                throw new ObjectOptimisticLockingFailureException(type, id);
+            }
+        }
+        try {
+            objectMapper.readerForUpdating(entity).readValue(changes);
+        } catch (IOException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid PATCH body: " + e.getMessage());
+        }
+        entityReferences.attach(entity);
+        return entity;
+    }
+}
@@ -0,0 +1,58 @@
+package com.apartmentmanagement.service;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.metamodel.SingularAttribute;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.lang.reflect.Field;
+
+/**
+ * Swaps the associations of an entity bound from a request body, which arrive as bare
+ * {@code {"id": n}} objects with no version, for references Hibernate can save against.
+ * Left in place, Hibernate takes such an object for an unsaved instance and rejects the write.
+ */
+@Component
+public class EntityReferences {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public <T> T attach(T entity) {
+        for (SingularAttribute<?, ?> attribute : entityManager.getMetamodel().entity(entity.getClass()).getSingularAttributes()) {
+            if (attribute.isAssociation()) {
+                Object target = read(attribute, entity);
+                if (target != null && !entityManager.contains(target)) {
+                    Object targetId = entityManager.getEntityManagerFactory().getPersistenceUnitUtil().getIdentifier(target);
+                    if (targetId == null) {
+                        throw new ResponseStatusException(HttpStatus.BAD_REQUEST, attribute.getName() + " must reference an existing id");
+                    }
+                    write(attribute, entity, entityManager.getReference(attribute.getJavaType(), targetId));
+                }
+            }
+        }
+        return entity;
+    }
+
+    static Object read(SingularAttribute<?, ?> attribute, Object entity) {
+        try {
+            Field field = (Field) attribute.getJavaMember();
+            field.setAccessible(true);
+            return field.get(entity);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void write(SingularAttribute<?, ?> attribute, Object entity, Object value) {
+        try {
+            Field field = (Field) attribute.getJavaMember();
+            field.setAccessible(true);
+            field.set(entity, value);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.apartmentmanagement.service;
+
+import com.apartmentmanagement.dto.CursorPage;
+import com.apartmentmanagement.dto.MaintenanceHit;
+import com.apartmentmanagement.dto.SearchPage;
+import com.apartmentmanagement.dto.TenantHit;
+import com.apartmentmanagement.entity.CodedEnum;
+import com.apartmentmanagement.entity.MaintenancePriority;
+import com.apartmentmanagement.entity.MaintenanceStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Ranked search over the ngram FULLTEXT indexes from V4__fulltext_search.sql. Natural language
+ * mode is used so the query needs no escaping and partial or misspelled terms still rank by
+ * the n-grams they share with the indexed text.
+ */
+@Service
+public class FullTextSearchService {
+
+    private static final int MIN_QUERY_LENGTH = 2;
+    private static final int MAX_QUERY_LENGTH = 200;
+
+    private static final String TENANT_SEARCH = """
+            SELECT t.tenant_id AS id, t.name, t.email, t.phone,
+                   MATCH(t.name, t.email, t.phone) AGAINST (:q IN NATURAL LANGUAGE MODE) AS score
+            FROM tenants t
+            WHERE MATCH(t.name, t.email, t.phone) AGAINST (:q IN NATURAL LANGUAGE MODE)
+            ORDER BY score DESC, t.tenant_id
+            """;
+
+    private static final String MAINTENANCE_SEARCH = """
+            SELECT m.request_id AS id, m.description, m.status, m.priority, m.requested_date AS created_date,
+                   u.apartment_id AS unit_id, u.unit_number, u.building_id, t.tenant_id, t.name AS tenant_name,
+                   MATCH(m.description) AGAINST (:q IN NATURAL LANGUAGE MODE) AS score
+            FROM maintenance_requests m
+            LEFT JOIN apartments u ON u.apartment_id = m.apartment_id
+            LEFT JOIN tenants t ON t.tenant_id = m.tenant_id
+            WHERE MATCH(m.description) AGAINST (:q IN NATURAL LANGUAGE MODE)
+            ORDER BY score DESC, m.request_id
+            """;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Transactional(readOnly = true)
+    public SearchPage<TenantHit> searchTenants(String query, int page, int size) {
+        String q = normalize(query);
+        int pageSize = CursorPage.pageSize(size);
+        int pageNumber = Math.max(page, 0);
+        List<TenantHit> rows = entityManager.unwrap(Session.class)
+                .createNativeQuery(TENANT_SEARCH, Object[].class)
+                .setParameter("q", q)
+                .addScalar("id", Long.class)
+                .addScalar("name", String.class)
+                .addScalar("email", String.class)
+                .addScalar("phone", String.class)
+                .addScalar("score", Double.class)
+                .setFirstResult(pageNumber * pageSize)
+                .setMaxResults(pageSize + 1)
+                .getResultList().stream()
+                .map(row -> new TenantHit((Long) row[0], (String) row[1], (String) row[2], (String) row[3], (Double) row[4]))
+                .toList();
+        return SearchPage.of(rows, pageNumber, pageSize);
+    }
+
+    @Transactional(readOnly = true)
+    public SearchPage<MaintenanceHit> searchMaintenance(String query, int page, int size) {
+        String q = normalize(query);
+        int pageSize = CursorPage.pageSize(size);
+        int pageNumber = Math.max(page, 0);
+        List<MaintenanceHit> rows = entityManager.unwrap(Session.class)
+                .createNativeQuery(MAINTENANCE_SEARCH, Object[].class)
+                .setParameter("q", q)
+                .addScalar("id", Long.class)
+                .addScalar("description", String.class)
+                .addScalar("status", String.class)
+                .addScalar("priority", String.class)
+                .addScalar("created_date", LocalDate.class)
+                .addScalar("unit_id", Long.class)
+                .addScalar("unit_number", String.class)
+                .addScalar("building_id", Long.class)
+                .addScalar("tenant_id", Long.class)
+                .addScalar("tenant_name", String.class)
+                .addScalar("score", Double.class)
+                .setFirstResult(pageNumber * pageSize)
+                .setMaxResults(pageSize + 1)
+                .getResultList().stream()
+                .map(row -> new MaintenanceHit((Long) row[0], (String) row[1],
+                        CodedEnum.fromCode(MaintenanceStatus.class, (String) row[2]),
+                        CodedEnum.fromCode(MaintenancePriority.class, (String) row[3]),
+                        (LocalDate) row[4], (Long) row[5], (String) row[6], (Long) row[7], (Long) row[8],
+                        (String) row[9], (Double) row[10]))
+                .toList();
+        return SearchPage.of(rows, pageNumber, pageSize);
+    }
+
+    private static String normalize(String query) {
+        String q = query == null ? "" : query.strip();
+        if (q.length() < MIN_QUERY_LENGTH) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Search query must be at least " + MIN_QUERY_LENGTH + " characters");
+        }
+        return q.length() > MAX_QUERY_LENGTH ? q.substring(0, MAX_QUERY_LENGTH) : q;
+    }
+}
@@ -0,0 +1,88 @@
+package com.apartmentmanagement.service;
+
+import com.apartmentmanagement.dto.LeaseExpiryRun;
+import com.apartmentmanagement.repository.LeaseAgreementRepository;
+import com.apartmentmanagement.web.TableVersions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Moves leases from {@code ACTIVE} to {@code EXPIRED} once their {@code endDate} has passed. Each pass
+ * reads only leases that are still active but have ended, which are exactly the ones that crossed
+ * their end date since the previous pass, and flips them in short batched transactions.
+ * When nothing has expired the pass is a single empty index probe, so it can run often.
+ */
+@Service
+public class LeaseExpiryService {
+
+    private static final Logger log = LoggerFactory.getLogger(LeaseExpiryService.class);
+
+    @Value("${app.leases.expiry.batch-size:500}")
+    private int batchSize;
+
+    @Autowired
+    private LeaseAgreementRepository leaseAgreementRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private TableVersions tableVersions;
+
+    private final AtomicReference<LeaseExpiryRun> lastRun = new AtomicReference<>();
+
+    @Scheduled(initialDelayString = "${app.leases.expiry.initial-delay:PT30S}", fixedDelayString = "${app.leases.expiry.interval:PT1H}")
+    public void scheduledRun() {
+        expireLeases();
+    }
+
+    /** Runs one pass now. Passes never overlap; the update is also guarded, so repeating one is harmless. */
+    public synchronized LeaseExpiryRun expireLeases() {
+        Instant startedAt = Instant.now();
+        long started = System.nanoTime();
+        LocalDate today = LocalDate.now();
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        int batches = 0;
+        long expired = 0;
+        int fetched;
+        do {
+            // Each batch commits on its own so row locks are held only briefly
+            int[] counts = transaction.execute(status -> {
+                List<Long> ids = leaseAgreementRepository.findExpiredActiveIds(today, Limit.of(batchSize));
+                if (ids.isEmpty()) {
+                    return new int[] { 0, 0 };
+                }
+                int updated = leaseAgreementRepository.deactivate(ids);
+                tableVersions.bump(TableVersions.Table.LEASES);
+                return new int[] { ids.size(), updated };
+            });
+            fetched = counts[0];
+            if (fetched > 0) {
+                batches++;
+                expired += counts[1];
+            }
+        } while (fetched == batchSize);
+        LeaseExpiryRun run = new LeaseExpiryRun(startedAt, today, batches, expired, (System.nanoTime() - started) / 1_000_000);
+        lastRun.set(run);
+        log.atInfo().addKeyValue("asOf", today).addKeyValue("batches", batches).addKeyValue("expired", expired)
+                .addKeyValue("durationMs", run.durationMillis()).log("Lease expiry pass finished");
+        return run;
+    }
+
+    public Optional<LeaseExpiryRun> getLastRun() {
+        return Optional.ofNullable(lastRun.get());
+    }
+}
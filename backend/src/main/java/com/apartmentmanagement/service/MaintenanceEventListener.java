@@ -0,0 +1,48 @@
+package com.apartmentmanagement.service;
+
+import com.apartmentmanagement.entity.ApartmentUnit;
+import com.apartmentmanagement.entity.MaintenanceRequest;
+import com.apartmentmanagement.entity.Tenant;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+/**
+ * JPA callbacks on {@link MaintenanceRequest}, so every write path (create, batch, PUT, PATCH,
+ * delete) feeds the event stream. Hibernate obtains this listener from the Spring context.
+ */
+@Component
+public class MaintenanceEventListener {
+
+    // Lazy: this listener is created while the EntityManagerFactory is still being built
+    @Autowired
+    @Lazy
+    private MaintenanceEventPublisher publisher;
+
+    @PostPersist
+    public void created(MaintenanceRequest request) {
+        publish("created", request);
+    }
+
+    @PostUpdate
+    public void updated(MaintenanceRequest request) {
+        publish("updated", request);
+    }
+
+    @PostRemove
+    public void deleted(MaintenanceRequest request) {
+        publish("deleted", request);
+    }
+
+    // Runs inside the flush: only read ids from associations, which never initializes a proxy
+    private void publish(String type, MaintenanceRequest request) {
+        ApartmentUnit unit = request.getApartmentUnit();
+        Tenant tenant = request.getTenant();
+        publisher.publish(type, request.getId(), request.getVersion(), request.getDescription(), request.getStatus(),
+                request.getPriority(), request.getCreatedDate(), unit != null ? unit.getId() : null,
+                tenant != null ? tenant.getId() : null);
+    }
+}
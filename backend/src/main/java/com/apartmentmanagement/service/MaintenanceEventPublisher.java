@@ -0,0 +1,125 @@
+package com.apartmentmanagement.service;
+
+import com.apartmentmanagement.dto.MaintenanceEvent;
+import com.apartmentmanagement.entity.MaintenancePriority;
+import com.apartmentmanagement.entity.MaintenanceStatus;
+import com.apartmentmanagement.repository.ApartmentUnitRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+/**
+ * In-memory fan-out of maintenance changes to SSE subscribers. Subscribers are async requests,
+ * so an idle connection holds no thread; all sends happen on one executor thread, after the
+ * change has committed. Events only reach clients connected to this instance.
+ */
+@Service
+public class MaintenanceEventPublisher {
+
+    private static final Logger log = LoggerFactory.getLogger(MaintenanceEventPublisher.class);
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+
+    @Value("${app.maintenance.stream.timeout:PT30M}")
+    private Duration timeout;
+
+    @Autowired
+    @Qualifier("maintenanceEventExecutor")
+    private Executor executor;
+
+    @Autowired
+    private ApartmentUnitRepository apartmentUnitRepository;
+
+    /** Opens a stream of events, limited to one building when {@code buildingId} is given. */
+    public SseEmitter subscribe(Long buildingId) {
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        Subscriber subscriber = new Subscriber(emitter, buildingId);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(e -> subscribers.remove(subscriber));
+        try {
+            // Flushes the response headers so the client sees the stream open right away
+            emitter.send(SseEmitter.event().comment("connected").reconnectTime(5000));
+        } catch (IOException e) {
+            emitter.completeWithError(e);
+            return emitter;
+        }
+        subscribers.add(subscriber);
+        return emitter;
+    }
+
+    void publish(String type, Long id, long version, String description, MaintenanceStatus status, MaintenancePriority priority,
+                 LocalDate createdDate, Long apartmentUnitId, Long tenantId) {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        Runnable fanOut = () -> {
+            MaintenanceEvent event = new MaintenanceEvent(type, id, version, description, status, priority, createdDate,
+                    apartmentUnitId, buildingOf(apartmentUnitId), tenantId);
+            for (Subscriber subscriber : subscribers) {
+                if (subscriber.buildingId() == null || subscriber.buildingId().equals(event.buildingId())) {
+                    send(subscriber, SseEmitter.event().name(type).data(event, MediaType.APPLICATION_JSON));
+                }
+            }
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    executor.execute(fanOut);
+                }
+            });
+        } else {
+            executor.execute(fanOut);
+        }
+    }
+
+    // Proxies and load balancers drop silent connections; heartbeats also surface dead clients
+    @Scheduled(fixedDelayString = "${app.maintenance.stream.heartbeat:PT25S}")
+    public void heartbeat() {
+        if (!subscribers.isEmpty()) {
+            executor.execute(() -> {
+                for (Subscriber subscriber : subscribers) {
+                    send(subscriber, SseEmitter.event().comment("keepalive"));
+                }
+            });
+        }
+    }
+
+
+    private void send(Subscriber subscriber, SseEmitter.SseEventBuilder event) {
+        try {
+            subscriber.emitter().send(event);
+        } catch (IOException | IllegalStateException e) {
+            subscribers.remove(subscriber);
+            subscriber.emitter().completeWithError(e);
+            log.atDebug().addKeyValue("reason", e.getMessage()).log("Dropped maintenance stream subscriber");
+        }
+    }
+
+    // One primary-key lookup per event, on the fan-out thread and only while someone is subscribed
+    private Long buildingOf(Long apartmentUnitId) {
+        if (apartmentUnitId == null) {
+            return null;
+        }
+        return apartmentUnitRepository.findBuildingIdById(apartmentUnitId).orElse(null);
+    }
+
+    private record Subscriber(SseEmitter emitter, Long buildingId) {
+    }
+}
@@ -0,0 +1,123 @@
+package com.apartmentmanagement.service;
+
+import com.apartmentmanagement.dto.MaintenanceClaim;
+import com.apartmentmanagement.entity.ApartmentUnit;
+import com.apartmentmanagement.entity.MaintenanceAssignment;
+import com.apartmentmanagement.entity.MaintenanceRequest;
+import com.apartmentmanagement.entity.MaintenanceStatus;
+import com.apartmentmanagement.entity.Staff;
+import com.apartmentmanagement.entity.StaffStatus;
+import com.apartmentmanagement.entity.Tenant;
+import com.apartmentmanagement.repository.MaintenanceAssignmentRepository;
+import com.apartmentmanagement.repository.MaintenanceRequestRepository;
+import com.apartmentmanagement.repository.StaffRepository;
+import com.apartmentmanagement.web.TableVersions;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Hands out pending maintenance requests to staff, most urgent and then oldest first. A claim
+ * locks the next pending rows with {@code FOR UPDATE SKIP LOCKED}, marks them in progress and
+ * records an assignment, all in one short transaction. Claimers running at the same time, on
+ * this or other instances, skip each other's rows rather than queueing behind them, so no
+ * request is handed out twice.
+ */
+@Service
+public class MaintenanceWorkQueue {
+
+    public static final int MAX_CLAIM = 50;
+
+    @Autowired
+    private MaintenanceRequestRepository maintenanceRequestRepository;
+
+    @Autowired
+    private MaintenanceAssignmentRepository maintenanceAssignmentRepository;
+
+    @Autowired
+    private StaffRepository staffRepository;
+
+    @Autowired
+    private TableVersions tableVersions;
+
+    /** Claims up to {@code limit} requests for the staff member; an empty list means the queue is empty. */
+    @Transactional
+    public List<MaintenanceClaim> claim(Long staffId, int limit) {
+        Staff staff = staffRepository.findById(staffId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Staff " + staffId + " not found"));
+        if (staff.getStatus() != StaffStatus.ACTIVE) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Staff " + staffId + " is not active");
+        }
+        List<MaintenanceRequest> requests = maintenanceRequestRepository.lockNextPending(Math.max(1, Math.min(limit, MAX_CLAIM)));
+        if (requests.isEmpty()) {
+            return List.of();
+        }
+        LocalDateTime now = LocalDateTime.now();
+        List<MaintenanceAssignment> assignments = new ArrayList<>(requests.size());
+        for (MaintenanceRequest request : requests) {
+            request.setStatus(MaintenanceStatus.IN_PROGRESS);
+            MaintenanceAssignment assignment = new MaintenanceAssignment();
+            assignment.setRequest(request);
+            assignment.setStaff(staff);
+            assignment.setAssignedDate(now);
+            assignments.add(assignment);
+        }
+        maintenanceAssignmentRepository.saveAll(assignments);
+        tableVersions.bump(TableVersions.Table.MAINTENANCE_REQUESTS);
+        return assignments.stream().map(MaintenanceWorkQueue::toClaim).toList();
+    }
+
+    /** Marks the assignment and its request completed. Completing twice returns the first completion. */
+    @Transactional
+    public MaintenanceClaim complete(Long assignmentId) {
+        MaintenanceAssignment assignment = findAssignment(assignmentId);
+        if (assignment.getCompletedDate() == null) {
+            assignment.setCompletedDate(LocalDateTime.now());
+            assignment.getRequest().setStatus(MaintenanceStatus.COMPLETED);
+            tableVersions.bump(TableVersions.Table.MAINTENANCE_REQUESTS);
+        }
+        return toClaim(assignment);
+    }
+
+    /** Gives an unfinished assignment up: the request goes back to the queue and the assignment is removed. */
+    @Transactional
+    public void release(Long assignmentId) {
+        MaintenanceAssignment assignment = findAssignment(assignmentId);
+        if (assignment.getCompletedDate() != null) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Assignment " + assignmentId + " is already completed");
+        }
+        assignment.getRequest().setStatus(MaintenanceStatus.PENDING);
+        maintenanceAssignmentRepository.delete(assignment);
+        tableVersions.bump(TableVersions.Table.MAINTENANCE_REQUESTS);
+    }
+
+    @Transactional(readOnly = true)
+    public List<MaintenanceClaim> getAssignments(Long staffId, boolean openOnly) {
+        List<MaintenanceAssignment> assignments = openOnly
+                ? maintenanceAssignmentRepository.findOpenByStaffId(staffId)
+                : maintenanceAssignmentRepository.findByStaffId(staffId);
+        return assignments.stream().map(MaintenanceWorkQueue::toClaim).toList();
+    }
+
+    private MaintenanceAssignment findAssignment(Long assignmentId) {
+        return maintenanceAssignmentRepository.findById(assignmentId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Assignment " + assignmentId + " not found"));
+    }
+
+    // Associations are only asked for their ids, which never initializes a proxy
+    private static MaintenanceClaim toClaim(MaintenanceAssignment assignment) {
+        MaintenanceRequest request = assignment.getRequest();
+        ApartmentUnit unit = request.getApartmentUnit();
+        Tenant tenant = request.getTenant();
+        return new MaintenanceClaim(assignment.getId(), assignment.getStaff().getId(), request.getId(),
+                request.getDescription(), request.getStatus(), request.getPriority(), request.getCreatedDate(),
+                unit != null ? unit.getId() : null, tenant != null ? tenant.getId() : null,
+                assignment.getAssignedDate(), assignment.getCompletedDate());
+    }
+}
@@ -0,0 +1,348 @@
+package com.apartmentmanagement.service;
+
+import com.apartmentmanagement.dto.PaymentIngestReport;
+import com.apartmentmanagement.dto.PaymentRow;
+import com.apartmentmanagement.dto.RejectedPayment;
+import com.apartmentmanagement.entity.LeaseAgreement;
+import com.apartmentmanagement.entity.Payment;
+import com.apartmentmanagement.repository.LeaseAgreementRepository;
+import com.apartmentmanagement.repository.PaymentRepository;
+import com.apartmentmanagement.web.TableVersions;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bulk payment posting for the first-of-month rent run. The file is read as a stream and cut
+ * into chunks; each chunk is validated against existing leases and inserted in its own
+ * transaction as one JDBC batch. At most {@code concurrency} chunks are in flight, which also
+ * stops the reader from buffering more of the file than the writers can take.
+ */
+@Service
+public class PaymentIngestService {
+
+    private static final Logger log = LoggerFactory.getLogger(PaymentIngestService.class);
+
+    static final Set<String> PAYMENT_TYPES = Set.of("rent", "deposit", "late_fee", "maintenance", "other");
+    static final Set<String> PAYMENT_METHODS = Set.of("check", "credit_card", "debit_card", "cash", "bank_transfer", "online");
+    static final Set<String> STATUSES = Set.of("pending", "completed", "failed", "refunded");
+
+    private static final List<String> CSV_COLUMNS = List.of("leaseId", "paymentDate", "amount", "paymentType",
+            "paymentMethod", "status", "dueDate");
+
+    @Value("${app.payments.ingest.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${app.payments.ingest.concurrency:4}")
+    private int concurrency;
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    @Autowired
+    private LeaseAgreementRepository leaseAgreementRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    @Qualifier("paymentIngestExecutor")
+    private Executor executor;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TableVersions tableVersions;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /** Accepts a JSON array of payments or newline-delimited JSON objects. */
+    public PaymentIngestReport ingestJson(InputStream in) throws IOException {
+        try (MappingIterator<JsonNode> nodes = objectMapper.readerFor(JsonNode.class).readValues(in)) {
+            return ingest(new LineSource() {
+                long number;
+
+                @Override
+                public Line next() throws IOException {
+                    if (!nodes.hasNextValue()) {
+                        return null;
+                    }
+                    JsonNode node = nodes.nextValue();
+                    number++;
+                    try {
+                        return new Line(number, objectMapper.treeToValue(node, PaymentRow.class), null);
+                    } catch (JsonProcessingException e) {
+                        return new Line(number, null, "unreadable payment: " + e.getOriginalMessage());
+                    }
+                }
+            });
+        }
+    }
+
+    /** Accepts CSV with a header row naming the {@link PaymentRow} columns, in any order. */
+    public PaymentIngestReport ingestCsv(InputStream in) throws IOException {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            String headerLine = reader.readLine();
+            if (headerLine == null) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Payment file is empty");
+            }
+            Map<String, Integer> header = new HashMap<>();
+            String[] names = headerLine.split(",", -1);
+            for (int i = 0; i < names.length; i++) {
+                header.put(names[i].trim(), i);
+            }
+            if (!header.keySet().containsAll(List.of("leaseId", "paymentDate", "amount", "paymentMethod"))) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "CSV header must name at least leaseId, "
+                        + "paymentDate, amount and paymentMethod; known columns are " + CSV_COLUMNS);
+            }
+            return ingest(new LineSource() {
+                long number;
+
+                @Override
+                public Line next() throws IOException {
+                    String text;
+                    do {
+                        text = reader.readLine();
+                    } while (text != null && text.isBlank());
+                    if (text == null) {
+                        return null;
+                    }
+                    number++;
+                    try {
+                        return new Line(number, parseCsv(text.split(",", -1), header), null);
+                    } catch (NumberFormatException | DateTimeParseException e) {
+                        return new Line(number, null, "unreadable payment: " + e.getMessage());
+                    }
+                }
+            });
+        }
+    }
+
+    private PaymentIngestReport ingest(LineSource source) throws IOException {
+        long started = System.nanoTime();
+        Run run = new Run();
+        Semaphore inFlight = new Semaphore(concurrency);
+        List<CompletableFuture<Void>> writes = new ArrayList<>();
+        long received = 0;
+        try {
+            List<Line> chunk = new ArrayList<>(chunkSize);
+            Line line;
+            while ((line = source.next()) != null) {
+                received++;
+                chunk.add(line);
+                if (chunk.size() == chunkSize) {
+                    writes.add(submit(chunk, run, inFlight));
+                    chunk = new ArrayList<>(chunkSize);
+                }
+            }
+            if (!chunk.isEmpty()) {
+                writes.add(submit(chunk, run, inFlight));
+            }
+        } catch (IOException | UncheckedIOException e) {
+            // Chunks already handed off still complete; the caller learns where the file broke
+            CompletableFuture.allOf(writes.toArray(CompletableFuture[]::new)).join();
+            bumpIfWritten(run);
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Malformed payment file after record " + received
+                    + " (" + run.accepted.get() + " payments already written): " + e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Payment ingest interrupted");
+        }
+        CompletableFuture.allOf(writes.toArray(CompletableFuture[]::new)).join();
+        bumpIfWritten(run);
+
+        long elapsedMillis = Math.max(1, (System.nanoTime() - started) / 1_000_000);
+        PaymentIngestReport report = new PaymentIngestReport(received, run.accepted.get(), run.rejected.get(), elapsedMillis,
+                received * 1000.0 / elapsedMillis,
+                run.rejections.stream().sorted(Comparator.comparingLong(RejectedPayment::line)).toList());
+        log.atInfo().addKeyValue("received", report.received()).addKeyValue("accepted", report.accepted())
+                .addKeyValue("rejected", report.rejected()).addKeyValue("elapsedMs", report.elapsedMillis())
+                .addKeyValue("rowsPerSecond", Math.round(report.rowsPerSecond()))
+                .log("Payment ingest finished");
+        return report;
+    }
+
+    private CompletableFuture<Void> submit(List<Line> chunk, Run run, Semaphore inFlight) throws InterruptedException {
+        inFlight.acquire();
+        try {
+            return CompletableFuture.runAsync(() -> {
+                try {
+                    writeChunk(chunk, run);
+                } finally {
+                    inFlight.release();
+                }
+            }, executor);
+        } catch (RuntimeException e) {
+            inFlight.release();
+            throw e;
+        }
+    }
+
+    private void writeChunk(List<Line> chunk, Run run) {
+        Set<Long> leaseIds = new HashSet<>();
+        for (Line line : chunk) {
+            if (line.row() != null && line.row().leaseId() != null) {
+                leaseIds.add(line.row().leaseId());
+            }
+        }
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        try {
+            List<RejectedPayment> rejected = new ArrayList<>();
+            Integer written = transaction.execute(status -> {
+                entityManager.unwrap(Session.class).setJdbcBatchSize(chunkSize);
+                Set<Long> knownLeases = leaseIds.isEmpty() ? Set.of() : leaseAgreementRepository.findExistingIds(leaseIds);
+                List<Payment> payments = new ArrayList<>(chunk.size());
+                for (Line line : chunk) {
+                    String error = line.error() != null ? line.error() : validate(line.row(), knownLeases);
+                    if (error != null) {
+                        rejected.add(new RejectedPayment(line.number(), error));
+                    } else {
+                        payments.add(toPayment(line.row()));
+                    }
+                }
+                paymentRepository.saveAll(payments);
+                entityManager.flush();
+                entityManager.clear();
+                return payments.size();
+            });
+            run.accepted.addAndGet(written != null ? written : 0);
+            rejected.forEach(run::reject);
+        } catch (RuntimeException e) {
+            log.atWarn().addKeyValue("firstLine", chunk.get(0).number()).addKeyValue("size", chunk.size()).setCause(e)
+                    .log("Payment chunk rolled back");
+            for (Line line : chunk) {
+                run.reject(new RejectedPayment(line.number(), "chunk rolled back: " + e.getMessage()));
+            }
+        }
+    }
+
+    private static String validate(PaymentRow row, Set<Long> knownLeases) {
+        if (row.leaseId() == null) {
+            return "leaseId is required";
+        }
+        if (!knownLeases.contains(row.leaseId())) {
+            return "lease " + row.leaseId() + " does not exist";
+        }
+        if (row.paymentDate() == null) {
+            return "paymentDate is required";
+        }
+        if (row.amount() == null || row.amount().signum() <= 0) {
+            return "amount must be positive";
+        }
+        if (row.amount().scale() > 2 || row.amount().precision() - row.amount().scale() > 8) {
+            return "amount must have at most 8 integer digits and 2 decimals";
+        }
+        if (row.paymentMethod() == null || !PAYMENT_METHODS.contains(row.paymentMethod())) {
+            return "paymentMethod must be one of " + PAYMENT_METHODS;
+        }
+        if (row.paymentType() != null && !PAYMENT_TYPES.contains(row.paymentType())) {
+            return "paymentType must be one of " + PAYMENT_TYPES;
+        }
+        if (row.status() != null && !STATUSES.contains(row.status())) {
+            return "status must be one of " + STATUSES;
+        }
+        return null;
+    }
+
+    private Payment toPayment(PaymentRow row) {
+        Payment payment = new Payment();
+        payment.setLease(entityManager.getReference(LeaseAgreement.class, row.leaseId()));
+        payment.setPaymentDate(row.paymentDate());
+        payment.setAmount(row.amount());
+        payment.setPaymentType(row.paymentType() != null ? row.paymentType() : "rent");
+        payment.setPaymentMethod(row.paymentMethod());
+        payment.setStatus(row.status() != null ? row.status() : "pending");
+        payment.setDueDate(row.dueDate());
+        return payment;
+    }
+
+    private static PaymentRow parseCsv(String[] fields, Map<String, Integer> header) {
+        String leaseId = field(fields, header, "leaseId");
+        String paymentDate = field(fields, header, "paymentDate");
+        String amount = field(fields, header, "amount");
+        String dueDate = field(fields, header, "dueDate");
+        return new PaymentRow(
+                leaseId != null ? Long.valueOf(leaseId) : null,
+                paymentDate != null ? LocalDate.parse(paymentDate) : null,
+                amount != null ? new BigDecimal(amount) : null,
+                field(fields, header, "paymentType"),
+                field(fields, header, "paymentMethod"),
+                field(fields, header, "status"),
+                dueDate != null ? LocalDate.parse(dueDate) : null);
+    }
+
+    private static String field(String[] fields, Map<String, Integer> header, String column) {
+        Integer index = header.get(column);
+        if (index == null || index >= fields.length) {
+            return null;
+        }
+        String value = fields[index].trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private void bumpIfWritten(Run run) {
+        if (run.accepted.get() > 0) {
+            tableVersions.bump(TableVersions.Table.PAYMENTS);
+        }
+    }
+
+    private record Line(long number, PaymentRow row, String error) {
+    }
+
+    @FunctionalInterface
+    private interface LineSource {
+        /** Returns the next data row, or {@code null} at end of file. */
+        Line next() throws IOException;
+    }
+
+    private static final class Run {
+        final AtomicLong accepted = new AtomicLong();
+        final AtomicLong rejected = new AtomicLong();
+        final Queue<RejectedPayment> rejections = new ConcurrentLinkedQueue<>();
+
+        void reject(RejectedPayment rejection) {
+            if (rejected.incrementAndGet() <= PaymentIngestReport.MAX_REPORTED_REJECTIONS) {
+                rejections.add(rejection);
+            }
+        }
+    }
+}
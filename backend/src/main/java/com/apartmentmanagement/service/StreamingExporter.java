@@ -0,0 +1,123 @@
+package com.apartmentmanagement.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Writes repository streams to the HTTP response row by row, so exports never hold
+ * more than one flush interval of entities in memory.
+ */
+@Component
+public class StreamingExporter {
+
+    private static final int FLUSH_INTERVAL = 500;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public <T> StreamingResponseBody ndjson(Supplier<Stream<T>> rows) {
+        return out -> {
+            JsonGenerator generator = objectMapper.getFactory().createGenerator(out);
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+            export(rows, out, row -> {
+                objectMapper.writeValue(generator, row);
+                generator.writeRaw('\n');
+            }, generator::flush);
+        };
+    }
+
+    public <T> StreamingResponseBody csv(Supplier<Stream<T>> rows, List<String> header, Function<T, List<Object>> columns) {
+        return out -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            writeCsvLine(writer, header);
+            export(rows, out, row -> writeCsvLine(writer, columns.apply(row)), writer::flush);
+        };
+    }
+
+    private <T> void export(Supplier<Stream<T>> rows, OutputStream out, RowWriter<T> rowWriter, Flusher flusher) throws IOException {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(true);
+        try {
+            transaction.executeWithoutResult(status -> {
+                try (Stream<T> stream = rows.get()) {
+                    Iterator<T> iterator = stream.iterator();
+                    long written = 0;
+                    while (iterator.hasNext()) {
+                        rowWriter.write(iterator.next());
+                        written++;
+                        // Flush the first row immediately, then in batches; clearing the
+                        // persistence context keeps already-written entities collectable.
+                        if (written == 1 || written % FLUSH_INTERVAL == 0) {
+                            flusher.flush();
+                            entityManager.clear();
+                        }
+                    }
+                    flusher.flush();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        out.flush();
+    }
+
+    private static void writeCsvLine(Writer writer, List<?> values) throws IOException {
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(csvField(values.get(i)));
+        }
+        writer.write("\r\n");
+    }
+
+    private static String csvField(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.indexOf(',') >= 0 || text.indexOf('"') >= 0 || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0) {
+            return '"' + text.replace("\"", "\"\"") + '"';
+        }
+        return text;
+    }
+
+    @FunctionalInterface
+    private interface RowWriter<T> {
+        void write(T row) throws IOException;
+    }
+
+    @FunctionalInterface
+    private interface Flusher {
+        void flush() throws IOException;
+    }
+}
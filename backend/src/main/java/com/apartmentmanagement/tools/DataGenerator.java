@@ -0,0 +1,258 @@
+package com.apartmentmanagement.tools;
+
+import com.apartmentmanagement.entity.LeaseStatus;
+import com.apartmentmanagement.entity.MaintenancePriority;
+import com.apartmentmanagement.entity.MaintenanceStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Fills the database with a synthetic portfolio: buildings, their units, a history of
+ * consecutive leases per unit (one tenant each, the latest still running), and maintenance
+ * requests raised by those tenants. Runs instead of the web application under the
+ * {@code datagen} profile (see application-datagen.properties for the sizes) and exits when done,
+ * unless {@code app.datagen.exit=false}: the perf suite uses that to seed an embedded database and
+ * then keep serving from the same context.
+ *
+ * <p>Id ranges are reserved up front by advancing the {@code *_seq} tables, so every row's id is
+ * a function of its position and buildings can be generated on several connections in parallel.
+ * Rows go out as JDBC batches, which Connector/J rewrites into multi-row inserts
+ * ({@code rewriteBatchedStatements}); a building's rows are never split across flushes, so
+ * foreign keys always point at rows that were written first. The same seed gives the same data.
+ */
+@Component
+@Profile("datagen")
+public class DataGenerator implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(DataGenerator.class);
+
+    // Must stay at least the allocationSize of the entities' @SequenceGenerator
+    private static final int SEQUENCE_ALLOCATION = 50;
+
+    private static final String[] FIRST_NAMES = { "James", "Mary", "Robert", "Patricia", "John", "Jennifer", "Michael",
+            "Linda", "David", "Elizabeth", "William", "Barbara", "Maria", "Wei", "Aisha", "Carlos", "Fatima", "Hiroshi",
+            "Olga", "Sarmad", "Priya", "Kwame", "Sofia", "Ahmed" };
+    private static final String[] LAST_NAMES = { "Smith", "Johnson", "Williams", "Brown", "Jones", "Garcia", "Miller",
+            "Davis", "Rodriguez", "Martinez", "Lee", "Nguyen", "Khan", "Chen", "Patel", "Kim", "Silva", "Novak" };
+    private static final String[] STREETS = { "Maple", "Oak", "Pine", "Cedar", "Elm", "Lake", "Hill", "Park",
+            "Washington", "River", "Sunset", "Highland" };
+    private static final String[] STREET_TYPES = { "St", "Ave", "Blvd", "Rd", "Lane", "Way" };
+    private static final String[] BUILDING_NAMES = { "Residences", "Towers", "Court", "Gardens", "Apartments", "Place",
+            "Commons", "Heights" };
+    private static final String[] ISSUES = { "Leaky faucet in kitchen", "Broken heater", "Clogged bathroom drain",
+            "Door lock sticking", "Window will not close", "Dishwasher not draining", "Ceiling light flickering",
+            "Air conditioning not cooling", "Mold in bathroom", "Refrigerator making noise", "Toilet running constantly",
+            "Smoke detector beeping", "Pest problem in kitchen", "Garbage disposal jammed", "Water stain on ceiling" };
+    private static final MaintenancePriority[] PRIORITIES = { MaintenancePriority.LOW, MaintenancePriority.MEDIUM,
+            MaintenancePriority.MEDIUM, MaintenancePriority.HIGH, MaintenancePriority.EMERGENCY };
+
+    @Value("${app.datagen.buildings:100}")
+    private int buildings;
+
+    @Value("${app.datagen.units-per-building:50}")
+    private int unitsPerBuilding;
+
+    @Value("${app.datagen.leases-per-unit:3}")
+    private int leasesPerUnit;
+
+    @Value("${app.datagen.maintenance-per-unit:4}")
+    private int maintenancePerUnit;
+
+    @Value("${app.datagen.threads:4}")
+    private int threads;
+
+    @Value("${app.datagen.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${app.datagen.seed:42}")
+    private long seed;
+
+    @Value("${app.datagen.exit:true}")
+    private boolean exitWhenDone;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ConfigurableApplicationContext context;
+
+    private final AtomicLong rowsWritten = new AtomicLong();
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        long units = (long) buildings * unitsPerBuilding;
+        long leases = units * leasesPerUnit;
+        long requests = units * maintenancePerUnit;
+        IdRanges ids = new TransactionTemplate(transactionManager).execute(status -> new IdRanges(
+                reserve("building_seq", buildings),
+                reserve("apartment_unit_seq", units),
+                reserve("tenant_seq", leases),
+                reserve("lease_agreement_seq", leases),
+                reserve("maintenance_request_seq", requests)));
+        log.atInfo().addKeyValue("buildings", buildings).addKeyValue("units", units)
+                .addKeyValue("tenants", leases).addKeyValue("leases", leases).addKeyValue("maintenanceRequests", requests)
+                .log("Generating data");
+
+        long started = System.nanoTime();
+        AtomicInteger nextBuilding = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> workers = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                workers.add(pool.submit(() -> generate(ids, nextBuilding)));
+            }
+            for (Future<?> worker : workers) {
+                worker.get();
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        long elapsedMs = Math.max(1, (System.nanoTime() - started) / 1_000_000);
+        log.atInfo().addKeyValue("rows", rowsWritten.get()).addKeyValue("elapsedMs", elapsedMs)
+                .addKeyValue("rowsPerSecond", rowsWritten.get() * 1000 / elapsedMs)
+                .log("Data generation finished");
+        if (exitWhenDone) {
+            System.exit(SpringApplication.exit(context));
+        }
+    }
+
+    /**
+     * Takes {@code count} ids from a Hibernate sequence table and returns the first. Hibernate's
+     * pooled optimizer hands out {@code (next_val - allocation, next_val]} when it reads
+     * {@code next_val}, so the stored value is moved a full allocation past the reserved range.
+     */
+    private long reserve(String sequenceTable, long count) {
+        long nextVal = jdbcTemplate.queryForObject("select next_val from " + sequenceTable + " for update", Long.class);
+        long first = Math.max(1, nextVal);
+        jdbcTemplate.update("update " + sequenceTable + " set next_val = ?", first + count + SEQUENCE_ALLOCATION);
+        return first;
+    }
+
+    private void generate(IdRanges ids, AtomicInteger nextBuilding) {
+        Batches batches = new Batches();
+        LocalDate today = LocalDate.now();
+        int b;
+        while ((b = nextBuilding.getAndIncrement()) < buildings) {
+            SplittableRandom random = new SplittableRandom(seed * 31 + b);
+            long buildingId = ids.building + b;
+            String street = STREETS[random.nextInt(STREETS.length)];
+            batches.buildings.add(new Object[] { buildingId,
+                    street + " " + BUILDING_NAMES[random.nextInt(BUILDING_NAMES.length)] + " " + (b + 1),
+                    (100 + random.nextInt(9900)) + " " + street + " " + STREET_TYPES[random.nextInt(STREET_TYPES.length)] });
+
+            for (int u = 0; u < unitsPerBuilding; u++) {
+                long unitIndex = (long) b * unitsPerBuilding + u;
+                long unitId = ids.unit + unitIndex;
+                int bedrooms = random.nextInt(5);
+                double rent = 900 + bedrooms * 350 + random.nextInt(40) * 10;
+                batches.units.add(new Object[] { unitId, String.valueOf((u / 10 + 1) * 100 + u % 10 + 1), bedrooms, rent, buildingId });
+
+                // Consecutive one-year leases ending with one that runs past today
+                LocalDate start = today.minusYears(leasesPerUnit).plusDays(random.nextInt(300));
+                for (int l = 0; l < leasesPerUnit; l++) {
+                    long leaseIndex = unitIndex * leasesPerUnit + l;
+                    long tenantId = ids.tenant + leaseIndex;
+                    String first = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+                    String last = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+                    batches.tenants.add(new Object[] { tenantId, first + " " + last,
+                            (first + "." + last + "." + tenantId + "@example.com").toLowerCase(),
+                            String.format("555-%03d-%04d", random.nextInt(1000), random.nextInt(10000)) });
+
+                    LocalDate end = start.plusYears(1);
+                    batches.leases.add(new Object[] { ids.lease + leaseIndex, Date.valueOf(start), Date.valueOf(end),
+                            rent * (0.9 + 0.1 * l / Math.max(1, leasesPerUnit - 1)),
+                            (end.isAfter(today) ? LeaseStatus.ACTIVE : LeaseStatus.EXPIRED).getCode(), unitId, tenantId });
+                    start = end.plusDays(1 + random.nextInt(30));
+                }
+
+                for (int m = 0; m < maintenancePerUnit; m++) {
+                    long requestIndex = unitIndex * maintenancePerUnit + m;
+                    int lease = random.nextInt(leasesPerUnit);
+                    long tenantId = ids.tenant + unitIndex * leasesPerUnit + lease;
+                    LocalDate created = today.minusDays(random.nextInt(365 * leasesPerUnit));
+                    // Older requests are mostly closed, recent ones mostly open
+                    long age = today.toEpochDay() - created.toEpochDay();
+                    MaintenanceStatus status = age > 60
+                            ? (random.nextInt(10) == 0 ? MaintenanceStatus.IN_PROGRESS : MaintenanceStatus.COMPLETED)
+                            : (random.nextBoolean() ? MaintenanceStatus.PENDING : MaintenanceStatus.IN_PROGRESS);
+                    batches.requests.add(new Object[] { ids.request + requestIndex, ISSUES[random.nextInt(ISSUES.length)],
+                            status.getCode(), PRIORITIES[random.nextInt(PRIORITIES.length)].getCode(), Date.valueOf(created),
+                            unitId, tenantId });
+                }
+            }
+            if (batches.size() >= batchSize) {
+                flush(batches);
+            }
+        }
+        flush(batches);
+    }
+
+    private void flush(Batches batches) {
+        if (batches.size() == 0) {
+            return;
+        }
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            jdbcTemplate.batchUpdate("insert into buildings (building_id, version, building_name, address) values (?, 0, ?, ?)", batches.buildings);
+            jdbcTemplate.batchUpdate("insert into apartments (apartment_id, version, unit_number, bedrooms, rent_amount, building_id) values (?, 0, ?, ?, ?, ?)",
+                    batches.units);
+            jdbcTemplate.batchUpdate("insert into tenants (tenant_id, version, name, email, phone) values (?, 0, ?, ?, ?)", batches.tenants);
+            jdbcTemplate.batchUpdate("insert into leases (lease_id, version, start_date, end_date, monthly_rent, lease_status, apartment_id, tenant_id)"
+                    + " values (?, 0, ?, ?, ?, ?, ?, ?)", batches.leases);
+            jdbcTemplate.batchUpdate("insert into maintenance_requests (request_id, version, description, status, priority, requested_date, apartment_id, tenant_id)"
+                    + " values (?, 0, ?, ?, ?, ?, ?, ?)", batches.requests);
+        });
+        long total = rowsWritten.addAndGet(batches.size());
+        log.atDebug().addKeyValue("rows", total).log("Generated rows flushed");
+        batches.clear();
+    }
+
+    /** First reserved id per table. */
+    private record IdRanges(long building, long unit, long tenant, long lease, long request) {
+    }
+
+    private static class Batches {
+        final List<Object[]> buildings = new ArrayList<>();
+        final List<Object[]> units = new ArrayList<>();
+        final List<Object[]> tenants = new ArrayList<>();
+        final List<Object[]> leases = new ArrayList<>();
+        final List<Object[]> requests = new ArrayList<>();
+
+        int size() {
+            return buildings.size() + units.size() + tenants.size() + leases.size() + requests.size();
+        }
+
+        void clear() {
+            buildings.clear();
+            units.clear();
+            tenants.clear();
+            leases.clear();
+            requests.clear();
+        }
+    }
+}
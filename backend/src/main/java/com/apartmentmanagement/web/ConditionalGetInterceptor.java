@@ -0,0 +1,34 @@
+package com.apartmentmanagement.web;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Answers GET/HEAD with 304 Not Modified before the handler runs when none of the tables a
+ * response is built from have changed, so no transaction is opened and nothing is queried.
+ */
+public class ConditionalGetInterceptor implements HandlerInterceptor {
+
+    private final TableVersions tableVersions;
+    private final TableVersions.Table[] tables;
+
+    public ConditionalGetInterceptor(TableVersions tableVersions, TableVersions.Table... tables) {
+        this.tableVersions = tableVersions;
+        this.tables = tables;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        String method = request.getMethod();
+        if (!"GET".equals(method) && !"HEAD".equals(method)) {
+            return true;
+        }
+        // Make clients revalidate on every poll instead of trusting a heuristic freshness window
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+        ServletWebRequest webRequest = new ServletWebRequest(request, response);
+        return !webRequest.checkNotModified(tableVersions.etag(tables), tableVersions.lastModified(tables));
+    }
+}
@@ -0,0 +1,247 @@
+package com.apartmentmanagement.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Map;
+
+/**
+ * Makes POSTs carrying an {@code Idempotency-Key} header safe to retry. The first request with a
+ * key runs normally and its response is kept; a retry with the same key and body gets that
+ * response replayed instead of creating the rows again. A retry that arrives while the first is
+ * still running gets 409, and reusing a key with a different body gets 422. Responses with a 5xx
+ * status are not kept, so those can be retried for real. Keys are held in memory for
+ * {@code app.idempotency.ttl} per instance, which covers client retries but not a retry that
+ * lands on another node.
+ *
+ * <p>The cache is bounded by bytes ({@code app.idempotency.max-size}), weighing each entry by its
+ * stored body. A response body above {@code app.idempotency.max-body-size} is not kept: the key
+ * still blocks a duplicate, but its retry gets 409 rather than the original response.
+ */
+@Component
+public class IdempotencyKeyFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+    private static final int MAX_KEY_LENGTH = 255;
+    // Key, fingerprint and bookkeeping of one entry, roughly
+    private static final int ENTRY_OVERHEAD_BYTES = 512;
+
+    private final Cache<String, StoredResponse> responses;
+    private final long maxBodyBytes;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    public IdempotencyKeyFilter(@Value("${app.idempotency.ttl:PT24H}") Duration ttl,
+                                @Value("${app.idempotency.max-size:64MB}") DataSize maxSize,
+                                @Value("${app.idempotency.max-body-size:256KB}") DataSize maxBodySize) {
+        this.responses = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumWeight(maxSize.toBytes())
+                .weigher((String key, StoredResponse stored) -> ENTRY_OVERHEAD_BYTES + key.length() + stored.bodyLength())
+                .build();
+        this.maxBodyBytes = maxBodySize.toBytes();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !"POST".equals(request.getMethod()) || request.getHeader(HEADER) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String key = request.getHeader(HEADER);
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            writeError(response, HttpStatus.BAD_REQUEST, HEADER + " must be 1 to " + MAX_KEY_LENGTH + " characters");
+            return;
+        }
+        String cacheKey = request.getRequestURI() + ' ' + key;
+        StoredResponse pending = new StoredResponse();
+        StoredResponse existing = responses.asMap().putIfAbsent(cacheKey, pending);
+        if (existing != null) {
+            replay(existing, fingerprint(request.getInputStream()), response);
+            return;
+        }
+
+        DigestingRequest digesting = new DigestingRequest(request);
+        ContentCachingResponseWrapper caching = new ContentCachingResponseWrapper(response);
+        boolean kept = false;
+        try {
+            chain.doFilter(digesting, caching);
+            if (caching.getStatus() < 500) {
+                byte[] body = caching.getContentSize() <= maxBodyBytes ? caching.getContentAsByteArray() : null;
+                pending.complete(digesting.fingerprint(), caching.getStatus(), caching.getContentType(), body);
+                // Put again so the cache re-weighs the entry with its body
+                responses.put(cacheKey, pending);
+                kept = true;
+            }
+        } finally {
+            if (!kept) {
+                responses.invalidate(cacheKey);
+            }
+            caching.copyBodyToResponse();
+        }
+    }
+
+    private void replay(StoredResponse stored, String fingerprint, HttpServletResponse response) throws IOException {
+        if (!stored.isComplete()) {
+            writeError(response, HttpStatus.CONFLICT, "A request with this " + HEADER + " is still being processed");
+        } else if (!stored.fingerprint.equals(fingerprint)) {
+            writeError(response, HttpStatus.UNPROCESSABLE_ENTITY, HEADER + " was already used with a different request body");
+        } else if (stored.body == null) {
+            writeError(response, HttpStatus.CONFLICT, "A request with this " + HEADER + " already completed with status "
+                    + stored.status + "; its response was too large to keep for replay");
+        } else {
+            response.setStatus(stored.status);
+            if (stored.contentType != null) {
+                response.setContentType(stored.contentType);
+            }
+            response.setHeader(REPLAYED_HEADER, "true");
+            response.getOutputStream().write(stored.body);
+        }
+    }
+
+    private void writeError(HttpServletResponse response, HttpStatus status, String message) throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), Map.of("error", status.getReasonPhrase(), "message", message));
+    }
+
+    private static String fingerprint(InputStream in) throws IOException {
+        MessageDigest digest = sha256();
+        byte[] buffer = new byte[8192];
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            digest.update(buffer, 0, read);
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static final class StoredResponse {
+        private volatile boolean complete;
+        private String fingerprint;
+        private int status;
+        private String contentType;
+        private byte[] body;
+
+        void complete(String fingerprint, int status, String contentType, byte[] body) {
+            this.fingerprint = fingerprint;
+            this.status = status;
+            this.contentType = contentType;
+            this.body = body;
+            this.complete = true;
+        }
+
+        boolean isComplete() {
+            return complete;
+        }
+
+        int bodyLength() {
+            return body != null ? body.length : 0;
+        }
+    }
+
+    /** Hashes the body as the handler reads it, so large uploads are never buffered for the fingerprint. */
+    private static final class DigestingRequest extends HttpServletRequestWrapper {
+        private final MessageDigest digest = sha256();
+        private ServletInputStream stream;
+
+        DigestingRequest(HttpServletRequest request) {
+            super(request);
+        }
+
+        @Override
+        public ServletInputStream getInputStream() throws IOException {
+            if (stream == null) {
+                ServletInputStream original = super.getInputStream();
+                stream = new ServletInputStream() {
+                    @Override
+                    public int read() throws IOException {
+                        int b = original.read();
+                        if (b != -1) {
+                            digest.update((byte) b);
+                        }
+                        return b;
+                    }
+
+                    @Override
+                    public int read(byte[] b, int off, int len) throws IOException {
+                        int read = original.read(b, off, len);
+                        if (read > 0) {
+                            digest.update(b, off, read);
+                        }
+                        return read;
+                    }
+
+                    @Override
+                    public boolean isFinished() {
+                        return original.isFinished();
+                    }
+
+                    @Override
+                    public boolean isReady() {
+                        return original.isReady();
+                    }
+
+                    @Override
+                    public void setReadListener(ReadListener listener) {
+                        original.setReadListener(listener);
+                    }
+                };
+            }
+            return stream;
+        }
+
+        @Override
+        public BufferedReader getReader() throws IOException {
+            String encoding = getCharacterEncoding();
+            return new BufferedReader(new InputStreamReader(getInputStream(),
+                    encoding != null ? encoding : StandardCharsets.UTF_8.name()));
+        }
+
+        /** Digest of the whole body, reading whatever the handler left unread. */
+        String fingerprint() throws IOException {
+            InputStream in = getInputStream();
+            byte[] buffer = new byte[8192];
+            while (in.read(buffer) != -1) {
+                // drained bytes are digested by the wrapper
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        }
+    }
+}
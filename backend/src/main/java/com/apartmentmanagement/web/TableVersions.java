@@ -0,0 +1,78 @@
+package com.apartmentmanagement.web;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-process version counters per table, bumped by every write path. List endpoints derive
+ * their ETag and Last-Modified from these, so an unchanged table can be answered with 304
+ * without querying the database. Counters are per JVM: each instance of a multi-node
+ * deployment only sees its own writes.
+ */
+@Component
+public class TableVersions {
+
+    public enum Table {
+        BUILDINGS, APARTMENT_UNITS, TENANTS, LEASES, MAINTENANCE_REQUESTS, PAYMENTS, STAFF
+    }
+
+    // Distinguishes this process so a restart never revalidates an ETag from a previous run
+    private final String epoch = UUID.randomUUID().toString().substring(0, 8);
+    private final Map<Table, AtomicLong> versions = new EnumMap<>(Table.class);
+    private final Map<Table, AtomicLong> lastModified = new EnumMap<>(Table.class);
+
+    public TableVersions() {
+        long now = System.currentTimeMillis();
+        for (Table table : Table.values()) {
+            versions.put(table, new AtomicLong());
+            lastModified.put(table, new AtomicLong(now));
+        }
+    }
+
+    /**
+     * Records a change to the given tables. Inside a transaction the bump is deferred until
+     * commit, so a concurrent reader can never tag pre-commit data with the new version.
+     */
+    public void bump(Table... tables) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    increment(tables);
+                }
+            });
+        } else {
+            increment(tables);
+        }
+    }
+
+    public String etag(Table... tables) {
+        StringBuilder etag = new StringBuilder("W/\"").append(epoch);
+        for (Table table : tables) {
+            etag.append('-').append(versions.get(table).get());
+        }
+        return etag.append('"').toString();
+    }
+
+    public long lastModified(Table... tables) {
+        long latest = 0;
+        for (Table table : tables) {
+            latest = Math.max(latest, lastModified.get(table).get());
+        }
+        return latest;
+    }
+
+    private void increment(Table... tables) {
+        long now = System.currentTimeMillis();
+        for (Table table : tables) {
+            versions.get(table).incrementAndGet();
+            lastModified.get(table).accumulateAndGet(now, Math::max);
+        }
+    }
+}
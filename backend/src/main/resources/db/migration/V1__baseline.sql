@@ -0,0 +1,82 @@
+-- Baseline: the schema Hibernate generated for the entities before migrations were introduced.
+-- Existing databases are baselined at this version (spring.flyway.baseline-on-migrate) and skip it.
+
+create table building (
+    id bigint not null,
+    address varchar(255),
+    name varchar(255),
+    primary key (id)
+) engine=InnoDB;
+
+create table apartment_unit (
+    bedrooms integer,
+    rent float(53),
+    building_id bigint,
+    id bigint not null,
+    unit_number varchar(255),
+    primary key (id)
+) engine=InnoDB;
+
+create table tenant (
+    id bigint not null,
+    email varchar(255),
+    name varchar(255),
+    phone varchar(255),
+    primary key (id)
+) engine=InnoDB;
+
+create table lease_agreement (
+    end_date date,
+    is_active bit,
+    monthly_rent float(53),
+    start_date date,
+    apartment_unit_id bigint,
+    id bigint not null,
+    tenant_id bigint,
+    primary key (id)
+) engine=InnoDB;
+
+create table maintenance_request (
+    created_date date,
+    apartment_unit_id bigint,
+    id bigint not null,
+    tenant_id bigint,
+    description varchar(255),
+    priority varchar(255),
+    status varchar(255),
+    primary key (id)
+) engine=InnoDB;
+
+create table building_seq (next_val bigint) engine=InnoDB;
+insert into building_seq values (1);
+
+create table apartment_unit_seq (next_val bigint) engine=InnoDB;
+insert into apartment_unit_seq values (1);
+
+create table tenant_seq (next_val bigint) engine=InnoDB;
+insert into tenant_seq values (1);
+
+create table lease_agreement_seq (next_val bigint) engine=InnoDB;
+insert into lease_agreement_seq values (1);
+
+create table maintenance_request_seq (next_val bigint) engine=InnoDB;
+insert into maintenance_request_seq values (1);
+
+create index idx_maintenance_status_priority_created on maintenance_request (status, priority, created_date);
+create index idx_maintenance_unit_status on maintenance_request (apartment_unit_id, status);
+create index idx_maintenance_tenant_status on maintenance_request (tenant_id, status);
+
+alter table apartment_unit
+    add constraint FKhx4cq5xyq35mhgwb3g30osvs5 foreign key (building_id) references building (id);
+
+alter table lease_agreement
+    add constraint FKv36cnfw85usi50pr5x0604gr foreign key (apartment_unit_id) references apartment_unit (id);
+
+alter table lease_agreement
+    add constraint FKnpd1l0x0e4kkq4xteukgaladw foreign key (tenant_id) references tenant (id);
+
+alter table maintenance_request
+    add constraint FKnmn5pr1d3h9eeuaairk6nhxo4 foreign key (apartment_unit_id) references apartment_unit (id);
+
+alter table maintenance_request
+    add constraint FKf40g3g3mktlrhq4c0d4s2njyx foreign key (tenant_id) references tenant (id);
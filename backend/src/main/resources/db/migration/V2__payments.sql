@@ -0,0 +1,26 @@
+-- Payments, following the payments table in schema.sql. The ENUM columns become
+-- varchar + CHECK so they validate against the String mappings.
+
+create table payments (
+    payment_id bigint not null,
+    lease_id bigint not null,
+    payment_date date not null,
+    amount decimal(10,2) not null,
+    payment_type varchar(20) default 'rent',
+    payment_method varchar(20) not null,
+    status varchar(20) default 'pending',
+    due_date date,
+    created_at datetime(6) default current_timestamp(6),
+    updated_at datetime(6) default current_timestamp(6) on update current_timestamp(6),
+    primary key (payment_id),
+    constraint chk_payment_type check (payment_type in ('rent', 'deposit', 'late_fee', 'maintenance', 'other')),
+    constraint chk_payment_method check (payment_method in ('check', 'credit_card', 'debit_card', 'cash', 'bank_transfer', 'online')),
+    constraint chk_payment_status check (status in ('pending', 'completed', 'failed', 'refunded')),
+    constraint fk_payment_lease foreign key (lease_id) references lease_agreement (id) on delete cascade
+) engine=InnoDB;
+
+create index idx_payment_lease on payments (lease_id);
+create index idx_payment_status on payments (status);
+
+create table payment_seq (next_val bigint) engine=InnoDB;
+insert into payment_seq values (1);
@@ -0,0 +1,2 @@
+-- Lets the lease-expiry job find still-active leases past their end date with a range scan
+create index idx_lease_active_end_date on lease_agreement (is_active, end_date);
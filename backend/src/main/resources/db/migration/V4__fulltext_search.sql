@@ -0,0 +1,5 @@
+-- Full-text search over tenants and maintenance descriptions. The ngram parser indexes
+-- overlapping 2-character tokens (ngram_token_size), so partial words, email fragments and
+-- phone digits match, and a misspelled term still scores on the n-grams it shares.
+alter table tenant add fulltext index ft_tenant_name_email_phone (name, email, phone) with parser ngram;
+alter table maintenance_request add fulltext index ft_maintenance_description (description) with parser ngram;
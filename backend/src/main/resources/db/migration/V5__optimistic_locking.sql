@@ -0,0 +1,7 @@
+-- @Version columns for optimistic locking; existing rows start at version 0
+alter table building add column version bigint not null default 0;
+alter table apartment_unit add column version bigint not null default 0;
+alter table tenant add column version bigint not null default 0;
+alter table lease_agreement add column version bigint not null default 0;
+alter table maintenance_request add column version bigint not null default 0;
+alter table payments add column version bigint not null default 0;
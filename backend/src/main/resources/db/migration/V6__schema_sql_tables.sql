@@ -0,0 +1,57 @@
+-- Moves the tables onto schema.sql's names and id/foreign-key columns, replaces free-text
+-- maintenance status/priority and leases.is_active with schema.sql's value sets, and adds its
+-- indexes. As in V2 the ENUM columns become varchar + CHECK, holding the lower-case codes.
+-- Columns schema.sql has but the entities do not (city, bathrooms, first_name, ...) are not added.
+
+rename table building to buildings,
+    apartment_unit to apartments,
+    tenant to tenants,
+    lease_agreement to leases,
+    maintenance_request to maintenance_requests;
+
+alter table buildings rename column id to building_id, rename column name to building_name;
+alter table apartments rename column id to apartment_id, rename column rent to rent_amount;
+alter table tenants rename column id to tenant_id;
+alter table leases rename column id to lease_id, rename column apartment_unit_id to apartment_id;
+alter table maintenance_requests rename column id to request_id,
+    rename column apartment_unit_id to apartment_id,
+    rename column created_date to requested_date;
+
+-- leases.is_active becomes lease_status; inactive leases are expired or, if ended early, terminated
+alter table leases add column lease_status varchar(20) default 'pending';
+update leases set lease_status = case
+    when is_active = 1 then 'active'
+    when is_active = 0 and end_date < current_date then 'expired'
+    when is_active = 0 then 'terminated'
+    else 'pending' end;
+drop index idx_lease_active_end_date on leases;
+alter table leases drop column is_active,
+    add constraint chk_lease_status check (lease_status in ('active', 'expired', 'terminated', 'pending'));
+
+-- Labels written through the API so far ('In Progress', 'Urgent', ...) become codes; values
+-- outside the set fall back to schema.sql's defaults
+update maintenance_requests
+set status = lower(replace(replace(trim(status), '-', '_'), ' ', '_')),
+    priority = lower(trim(priority));
+update maintenance_requests set priority = 'emergency' where priority = 'urgent';
+update maintenance_requests set status = 'pending'
+where status not in ('pending', 'in_progress', 'completed', 'cancelled');
+update maintenance_requests set priority = 'medium'
+where priority not in ('low', 'medium', 'high', 'emergency');
+alter table maintenance_requests
+    modify column status varchar(20) default 'pending',
+    modify column priority varchar(20) default 'medium',
+    add constraint chk_maintenance_status check (status in ('pending', 'in_progress', 'completed', 'cancelled')),
+    add constraint chk_maintenance_priority check (priority in ('low', 'medium', 'high', 'emergency'));
+
+-- schema.sql's indexes. The existing composite indexes already lead with apartment_id and
+-- (status, priority), but status or priority alone keeps the primary key in order, so the
+-- list endpoints (filtered, ordered by id) read them without a sort.
+create index idx_apartment_building on apartments (building_id);
+create index idx_tenant_email on tenants (email);
+create index idx_lease_status on leases (lease_status, end_date);
+create index idx_lease_tenant on leases (tenant_id);
+create index idx_lease_apartment on leases (apartment_id);
+create index idx_maintenance_status on maintenance_requests (status);
+create index idx_maintenance_priority on maintenance_requests (priority);
+alter table maintenance_requests rename index idx_maintenance_unit_status to idx_maintenance_apartment;
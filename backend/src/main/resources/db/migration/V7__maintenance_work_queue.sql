@@ -0,0 +1,49 @@
+-- Staff and maintenance assignments, following schema.sql (ENUMs as varchar + CHECK, as in V2)
+
+create table staff (
+    staff_id bigint not null,
+    version bigint not null default 0,
+    first_name varchar(50) not null,
+    last_name varchar(50) not null,
+    email varchar(100) not null,
+    phone varchar(20),
+    role varchar(20) not null,
+    hire_date date not null,
+    salary decimal(10,2),
+    status varchar(20) default 'active',
+    created_at datetime(6) default current_timestamp(6),
+    updated_at datetime(6) default current_timestamp(6) on update current_timestamp(6),
+    primary key (staff_id),
+    constraint uk_staff_email unique (email),
+    constraint chk_staff_role check (role in ('manager', 'maintenance', 'admin', 'receptionist')),
+    constraint chk_staff_status check (status in ('active', 'inactive', 'terminated'))
+) engine=InnoDB;
+
+create table staff_seq (next_val bigint) engine=InnoDB;
+insert into staff_seq values (1);
+
+create table maintenance_assignments (
+    assignment_id bigint not null,
+    version bigint not null default 0,
+    request_id bigint not null,
+    staff_id bigint not null,
+    assigned_date datetime(6) default current_timestamp(6),
+    completed_date datetime(6),
+    primary key (assignment_id),
+    constraint fk_assignment_request foreign key (request_id) references maintenance_requests (request_id) on delete cascade,
+    constraint fk_assignment_staff foreign key (staff_id) references staff (staff_id) on delete cascade
+) engine=InnoDB;
+
+create index idx_assignment_request on maintenance_assignments (request_id);
+create index idx_assignment_staff_open on maintenance_assignments (staff_id, completed_date);
+
+create table maintenance_assignment_seq (next_val bigint) engine=InnoDB;
+insert into maintenance_assignment_seq values (1);
+
+-- Work-queue order: pending requests by priority (emergency first), then oldest first. The codes
+-- do not sort in priority order, so a generated rank column lets the claim query walk
+-- idx_maintenance_queue in order and stop after LIMIT rows instead of sorting every pending request.
+alter table maintenance_requests
+    add column priority_rank tinyint generated always as (
+        case priority when 'emergency' then 0 when 'high' then 1 when 'medium' then 2 when 'low' then 3 else 4 end) stored;
+create index idx_maintenance_queue on maintenance_requests (status, priority_rank, requested_date);
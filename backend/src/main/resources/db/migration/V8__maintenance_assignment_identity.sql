@@ -0,0 +1,5 @@
+-- Assignment ids come from AUTO_INCREMENT instead of maintenance_assignment_seq. Hibernate refills
+-- a table sequence on a second pooled connection, which a claim would need while holding its own.
+-- MySQL starts the counter after the highest existing id.
+alter table maintenance_assignments modify assignment_id bigint not null auto_increment;
+drop table maintenance_assignment_seq;
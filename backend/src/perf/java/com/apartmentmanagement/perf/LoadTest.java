@@ -0,0 +1,595 @@
+package com.apartmentmanagement.perf;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Load test for the REST API. Without {@code --base-url} it starts the application in-process on
+ * the embedded MariaDB seeded by DataGenerator (see {@link PerfApplication}); {@code --app.*},
+ * {@code --spring.*}, {@code --server.*} and {@code --logging.*} arguments go to that application,
+ * e.g. {@code --app.datagen.buildings=700 --spring.profiles.active=prod}. With {@code --base-url}
+ * it drives an instance that is already running and seeded.
+ *
+ * <pre>
+ * mvn -Pperf test-compile exec:exec -Dperf.args="--rate=200 --duration=PT60S --max-p99=PT0.25S"
+ * mvn -Pperf test-compile exec:exec -Dperf.args="--scenario=dispatch --concurrency=100 --staff=100 --backlog=50000"
+ * </pre>
+ *
+ * Scenarios ({@code --scenario}):
+ * <ul>
+ *   <li>{@code mixed} (default): a weighted mix over the building, unit, tenant, lease and
+ *       maintenance endpoints, with {@code --write-ratio} of the requests creating a maintenance
+ *       request. Paged listings are scrolled by following {@code nextCursor}, like a client would.</li>
+ *   <li>{@code dispatch}: staff pull work from {@code /api/maintenance/queue}, each worker claiming
+ *       one request for a random active staff member and completing it. {@code --staff=N} creates N
+ *       maintenance staff and {@code --backlog=N} N pending requests before the run. Every claimed
+ *       request id is tracked, and the run fails if any request was handed out twice.</li>
+ *   <li>{@code ingest}: posts one CSV payment file of {@code --rows} rows (default 100k) across the
+ *       seeded leases to {@code /api/payments/ingest}, after a tenth-size warmup file, and prints
+ *       rows per second as seen by the client and as reported by the server.</li>
+ *   <li>{@code bulk}: creates {@code --rows} apartment units (default 10k) across the seeded
+ *       buildings twice, first with one {@code POST /api/apartment-units} per unit and then in
+ *       {@code /batch} arrays of {@code --batch-size} (default 500), each after a tenth-size
+ *       warmup, and prints rows per second for both.</li>
+ * </ul>
+ *
+ * Pacing: {@code --rate=N} sends N requests per second on a fixed schedule whether or not earlier
+ * responses have come back (open loop), and measures each latency from the request's scheduled
+ * start, so a stall is charged to every request that should have been sent during it. At most
+ * {@code --max-in-flight} requests are outstanding; requests past that are counted as errors.
+ * {@code --concurrency=N} instead runs N workers that each wait for a response before sending the
+ * next request (closed loop): that finds peak throughput and is what dispatch needs, but a slow
+ * response also holds back the requests behind it, which hides tail latency. {@code --max-p99}
+ * (exit with status 1 if any operation's p99 is above it, for use as a pre-deploy gate) therefore
+ * requires {@code --rate}. {@code --report} writes the results as CSV for comparing runs.
+ */
+public class LoadTest {
+
+    private static final Pattern NEXT_CURSOR = Pattern.compile("\"nextCursor\"\\s*:\\s*(\\d+)");
+    private static final Pattern ASSIGNMENT_ID = Pattern.compile("\"assignmentId\"\\s*:\\s*(\\d+)");
+    private static final Pattern REQUEST_ID = Pattern.compile("\"requestId\"\\s*:\\s*(\\d+)");
+    private static final String[] SEARCH_TERMS = { "leak", "heater", "door", "window", "smith", "garcia", "lee" };
+    private static final String[] STATUSES = { "Pending", "In Progress", "Completed" };
+    private static final String[] APP_PREFIXES = { "app.", "spring.", "server.", "logging." };
+
+    private final HttpClient client;
+    private final String baseUrl;
+    private final double writeRatio;
+    private final long[] buildingIds;
+    private final long[] unitIds;
+    private final long[] tenantIds;
+    private final long[] staffIds;
+    private final Set<Long> claimedRequestIds = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger measuredClaims = new AtomicInteger();
+    private final AtomicInteger duplicateClaims = new AtomicInteger();
+    private final AtomicInteger dropped = new AtomicInteger();
+
+    private volatile boolean recording;
+    private volatile boolean stopped;
+
+    LoadTest(HttpClient client, String baseUrl, double writeRatio, long[] buildingIds, long[] unitIds, long[] tenantIds,
+             long[] staffIds) {
+        this.client = client;
+        this.baseUrl = baseUrl;
+        this.writeRatio = writeRatio;
+        this.buildingIds = buildingIds;
+        this.unitIds = unitIds;
+        this.tenantIds = tenantIds;
+        this.staffIds = staffIds;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        Map<String, String> appProperties = new LinkedHashMap<>();
+        parseOptions(args, options, appProperties);
+        boolean dispatch = "dispatch".equals(options.getOrDefault("scenario", "mixed"));
+        if (options.containsKey("max-p99") && !options.containsKey("rate")) {
+            usage("--max-p99 needs --rate: a closed loop under-reports tail latency");
+        }
+        if (dispatch && options.containsKey("rate")) {
+            usage("dispatch runs closed loop (--concurrency): each claimer completes its claim before the next");
+        }
+
+        ConfigurableApplicationContext app = null;
+        String baseUrl = options.get("base-url");
+        if (baseUrl == null) {
+            app = PerfApplication.start(appProperties);
+            baseUrl = "http://localhost:" + PerfApplication.port(app);
+        } else if (!appProperties.isEmpty()) {
+            usage(appProperties.keySet() + " only apply to the embedded application (no --base-url)");
+        }
+        int status;
+        try {
+            status = run(options, baseUrl);
+        } finally {
+            if (app != null) {
+                app.close();
+            }
+        }
+        System.exit(status);
+    }
+
+    private static int run(Map<String, String> options, String baseUrl) throws Exception {
+        Duration warmup = Duration.parse(options.getOrDefault("warmup", "PT10S"));
+        Duration duration = Duration.parse(options.getOrDefault("duration", "PT60S"));
+        double writeRatio = Double.parseDouble(options.getOrDefault("write-ratio", "0.05"));
+        boolean dispatch = "dispatch".equals(options.getOrDefault("scenario", "mixed"));
+
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+        ObjectMapper mapper = new ObjectMapper();
+        long[] buildingIds = discoverIds(client, mapper, baseUrl + "/api/buildings?limit=500");
+        long[] unitIds = discoverIds(client, mapper, baseUrl + "/api/apartment-units?limit=500");
+        long[] tenantIds = discoverIds(client, mapper, baseUrl + "/api/tenants?limit=500");
+        if (buildingIds.length == 0 || unitIds.length == 0 || tenantIds.length == 0) {
+            System.err.println("No buildings, units or tenants at " + baseUrl + "; seed the database first");
+            return 2;
+        }
+        if ("ingest".equals(options.get("scenario"))) {
+            return runIngest(client, mapper, baseUrl, Integer.parseInt(options.getOrDefault("rows", "100000")));
+        }
+        if ("bulk".equals(options.get("scenario"))) {
+            return runBulk(client, baseUrl, buildingIds, Integer.parseInt(options.getOrDefault("rows", "10000")),
+                    Integer.parseInt(options.getOrDefault("batch-size", "500")));
+        }
+        long[] staffIds = null;
+        if (dispatch) {
+            createStaff(client, baseUrl, Integer.parseInt(options.getOrDefault("staff", "0")));
+            createBacklog(client, baseUrl, Integer.parseInt(options.getOrDefault("backlog", "0")), unitIds, tenantIds);
+            staffIds = discoverActiveStaffIds(client, mapper, baseUrl + "/api/staff");
+            if (staffIds.length == 0) {
+                System.err.println("No active staff at " + baseUrl + "; pass --staff=N to create some");
+                return 2;
+            }
+        }
+
+        LoadTest test = new LoadTest(client, baseUrl, writeRatio, buildingIds, unitIds, tenantIds, staffIds);
+        Map<String, Recorder> results;
+        if (options.containsKey("rate")) {
+            double rate = Double.parseDouble(options.get("rate"));
+            int maxInFlight = Integer.parseInt(options.getOrDefault("max-in-flight", "1000"));
+            results = test.runOpenLoop(rate, maxInFlight, warmup, duration);
+            System.out.printf("open loop, %.0f req/s scheduled, %s measured%n", rate, duration);
+        } else {
+            int concurrency = Integer.parseInt(options.getOrDefault("concurrency", "32"));
+            results = test.runClosedLoop(concurrency, warmup, duration);
+            System.out.printf("closed loop, %d workers, %s measured%n", concurrency, duration);
+        }
+
+        System.out.println(Recorder.HEADER);
+        Recorder total = new Recorder("TOTAL");
+        for (Recorder recorder : results.values()) {
+            System.out.println(recorder.format(duration));
+            total.merge(recorder);
+        }
+        System.out.println(total.format(duration));
+        if (dispatch) {
+            System.out.printf("%d staff claiming: %d requests claimed (%.1f claims/s), %d claimed more than once%n",
+                    staffIds.length, test.measuredClaims.get(), test.measuredClaims.get() / (duration.toMillis() / 1000.0),
+                    test.duplicateClaims.get());
+        }
+        if (test.dropped.get() > 0) {
+            System.out.printf("%d requests not sent: more than --max-in-flight outstanding, the target cannot keep up%n",
+                    test.dropped.get());
+        }
+
+        if (options.containsKey("report")) {
+            List<String> lines = new ArrayList<>();
+            lines.add(Recorder.CSV_HEADER);
+            results.values().forEach(recorder -> lines.add(recorder.csv(duration)));
+            lines.add(total.csv(duration));
+            Files.write(Path.of(options.get("report")), lines);
+        }
+        if (test.duplicateClaims.get() > 0) {
+            return 1;
+        }
+        if (options.containsKey("max-p99")) {
+            long limitNanos = Duration.parse(options.get("max-p99")).toNanos();
+            List<String> failing = results.values().stream()
+                    .filter(recorder -> recorder.percentile(0.99) > limitNanos)
+                    .map(recorder -> recorder.name)
+                    .toList();
+            if (!failing.isEmpty() || test.dropped.get() > 0) {
+                System.err.println("p99 above " + options.get("max-p99") + ": " + failing);
+                return 1;
+            }
+        }
+        return 0;
+    }
+
+    private static int runIngest(HttpClient client, ObjectMapper mapper, String baseUrl, int rows)
+            throws IOException, InterruptedException {
+        long[] leaseIds = discoverIds(client, mapper, baseUrl + "/api/leases?limit=500");
+        ingest(client, mapper, baseUrl, leaseIds, Math.max(1, rows / 10));
+        long started = System.nanoTime();
+        JsonNode report = ingest(client, mapper, baseUrl, leaseIds, rows);
+        double seconds = (System.nanoTime() - started) / 1e9;
+        System.out.printf("ingest of %d CSV rows: %.2f s, %.0f rows/s at the client; server reported %d accepted, "
+                        + "%d rejected, %.0f rows/s%n", rows, seconds, rows / seconds, report.path("accepted").asLong(),
+                report.path("rejected").asLong(), report.path("rowsPerSecond").asDouble());
+        return report.path("rejected").asLong() == 0 ? 0 : 1;
+    }
+
+    private static JsonNode ingest(HttpClient client, ObjectMapper mapper, String baseUrl, long[] leaseIds, int rows)
+            throws IOException, InterruptedException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        StringBuilder csv = new StringBuilder("leaseId,paymentDate,amount,paymentType,paymentMethod,status\n");
+        LocalDate date = LocalDate.now().withDayOfMonth(1);
+        for (int i = 0; i < rows; i++) {
+            csv.append(pickId(leaseIds, random)).append(',').append(date).append(',')
+                    .append(900 + random.nextInt(2000)).append(".00,rent,bank_transfer,completed\n");
+        }
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/payments/ingest"))
+                .timeout(Duration.ofMinutes(30))
+                .header("Content-Type", "text/csv")
+                .POST(HttpRequest.BodyPublishers.ofString(csv.toString()))
+                .build();
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        expectOk(response, "POST /api/payments/ingest");
+        return mapper.readTree(response.body());
+    }
+
+    private static int runBulk(HttpClient client, String baseUrl, long[] buildingIds, int rows, int batchSize)
+            throws IOException, InterruptedException {
+        createUnits(client, baseUrl, buildingIds, Math.max(1, rows / 10), 1);
+        double single = createUnits(client, baseUrl, buildingIds, rows, 1);
+        createUnits(client, baseUrl, buildingIds, Math.max(1, rows / 10), batchSize);
+        double batched = createUnits(client, baseUrl, buildingIds, rows, batchSize);
+        System.out.printf("%d apartment units: %.0f rows/s one per POST, %.0f rows/s in /batch arrays of %d (%.1fx)%n",
+                rows, single, batched, batchSize, batched / single);
+        return 0;
+    }
+
+    /** Creates {@code rows} units, one per POST when {@code batchSize} is 1, and returns rows per second. */
+    private static double createUnits(HttpClient client, String baseUrl, long[] buildingIds, int rows, int batchSize)
+            throws IOException, InterruptedException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long started = System.nanoTime();
+        for (int created = 0; created < rows; ) {
+            if (batchSize == 1) {
+                expectOk(client.send(post(baseUrl + "/api/apartment-units", newUnit(pickId(buildingIds, random), created),
+                        Duration.ofSeconds(30)), HttpResponse.BodyHandlers.ofString()), "POST /api/apartment-units");
+                created++;
+                continue;
+            }
+            StringJoiner batch = new StringJoiner(",", "[", "]");
+            for (int i = 0; i < batchSize && created < rows; i++, created++) {
+                batch.add(newUnit(pickId(buildingIds, random), created));
+            }
+            expectOk(client.send(post(baseUrl + "/api/apartment-units/batch", batch.toString(), Duration.ofMinutes(2)),
+                    HttpResponse.BodyHandlers.ofString()), "POST /api/apartment-units/batch");
+        }
+        return rows / ((System.nanoTime() - started) / 1e9);
+    }
+
+    private static String newUnit(long buildingId, int n) {
+        return "{\"unitNumber\":\"L" + n + "\",\"bedrooms\":" + (1 + n % 3) + ",\"rent\":" + (1200 + n % 800) + ".0,"
+                + "\"building\":{\"id\":" + buildingId + "}}";
+    }
+
+    /**
+     * Sends one request of the mix every {@code 1/rate} seconds. A request's latency runs from when
+     * it was due, not from when it went out, so time spent queued behind a slow response counts.
+     */
+    Map<String, Recorder> runOpenLoop(double rate, int maxInFlight, Duration warmup, Duration duration)
+            throws InterruptedException {
+        Map<String, Recorder> recorders = new ConcurrentHashMap<>();
+        Map<String, Long> cursors = new ConcurrentHashMap<>();
+        Semaphore inFlight = new Semaphore(maxInFlight);
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long interval = (long) (TimeUnit.SECONDS.toNanos(1) / rate);
+        long start = System.nanoTime();
+        long measureFrom = start + warmup.toNanos();
+        long end = measureFrom + duration.toNanos();
+
+        for (long due = start; due < end; due += interval) {
+            long wait = due - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            boolean measured = due >= measureFrom;
+            Call call = nextCall(random, cursors);
+            if (!inFlight.tryAcquire()) {
+                if (measured) {
+                    dropped.incrementAndGet();
+                    recorders.computeIfAbsent(call.name(), Recorder::new).record(System.nanoTime() - due, false);
+                }
+                continue;
+            }
+            long scheduled = due;
+            client.sendAsync(call.request(), HttpResponse.BodyHandlers.ofString()).whenComplete((response, error) -> {
+                long latency = System.nanoTime() - scheduled;
+                inFlight.release();
+                if (measured) {
+                    recorders.computeIfAbsent(call.name(), Recorder::new)
+                            .record(latency, error == null && response.statusCode() < 400);
+                }
+                if (response != null) {
+                    call.completed(response.body(), cursors);
+                }
+            });
+        }
+        if (!inFlight.tryAcquire(maxInFlight, 60, TimeUnit.SECONDS)) {
+            System.err.println("Requests still outstanding 60s after the run");
+        }
+        return new LinkedHashMap<>(recorders);
+    }
+
+    Map<String, Recorder> runClosedLoop(int concurrency, Duration warmup, Duration duration) throws InterruptedException {
+        List<Worker> workers = new ArrayList<>();
+        ExecutorService pool = Executors.newFixedThreadPool(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            Worker worker = new Worker();
+            workers.add(worker);
+            pool.execute(worker);
+        }
+        Thread.sleep(warmup.toMillis());
+        recording = true;
+        Thread.sleep(duration.toMillis());
+        recording = false;
+        stopped = true;
+        pool.shutdown();
+        pool.awaitTermination(30, TimeUnit.SECONDS);
+
+        Map<String, Recorder> merged = new LinkedHashMap<>();
+        for (Worker worker : workers) {
+            worker.recorders.forEach((name, recorder) ->
+                    merged.computeIfAbsent(name, Recorder::new).merge(recorder));
+        }
+        return merged;
+    }
+
+    /** One request of the mixed scenario; scrolling listings remember where they got to in {@code cursors}. */
+    private record Call(String name, HttpRequest request, boolean scrolls) {
+
+        void completed(String body, Map<String, Long> cursors) {
+            if (scrolls) {
+                Matcher matcher = NEXT_CURSOR.matcher(body);
+                cursors.put(name, matcher.find() ? Long.parseLong(matcher.group(1)) : 0L);
+            }
+        }
+    }
+
+    private Call nextCall(ThreadLocalRandom random, Map<String, Long> cursors) {
+        if (random.nextDouble() < writeRatio) {
+            return new Call("POST /api/maintenance", post("/api/maintenance", newMaintenanceRequest(random)), false);
+        }
+        int pick = random.nextInt(100);
+        if (pick < 10) {
+            return call("GET /api/buildings", "/api/buildings");
+        } else if (pick < 25) {
+            return call("GET /api/buildings/{id}/tenants", "/api/buildings/" + pickId(buildingIds, random) + "/tenants");
+        } else if (pick < 30) {
+            return call("GET /api/buildings/{id}/stats", "/api/buildings/" + pickId(buildingIds, random) + "/stats");
+        } else if (pick < 40) {
+            return scroll("GET /api/apartment-units?limit", "/api/apartment-units?limit=100", cursors);
+        } else if (pick < 50) {
+            return scroll("GET /api/tenants?limit", "/api/tenants?limit=100", cursors);
+        } else if (pick < 55) {
+            return call("GET /api/tenants/search?q", "/api/tenants/search?q=" + pickTerm(random));
+        } else if (pick < 70) {
+            return scroll("GET /api/leases?limit", "/api/leases?limit=100", cursors);
+        } else if (pick < 80) {
+            return scroll("GET /api/maintenance?limit", "/api/maintenance?limit=100", cursors);
+        } else if (pick < 90) {
+            String status = STATUSES[random.nextInt(STATUSES.length)].replace(" ", "%20");
+            return call("GET /api/maintenance/search", "/api/maintenance/search?status=" + status + "&buildingId="
+                    + pickId(buildingIds, random) + "&limit=100");
+        } else {
+            return call("GET /api/maintenance/search?q", "/api/maintenance/search?q=" + pickTerm(random));
+        }
+    }
+
+    private Call call(String name, String path) {
+        return new Call(name, get(path), false);
+    }
+
+    private Call scroll(String name, String path, Map<String, Long> cursors) {
+        return new Call(name, get(path + "&after=" + cursors.getOrDefault(name, 0L)), true);
+    }
+
+    private class Worker implements Runnable {
+
+        private final Map<String, Recorder> recorders = new HashMap<>();
+        private final Map<String, Long> cursors = new HashMap<>();
+
+        @Override
+        public void run() {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            while (!stopped) {
+                if (staffIds != null) {
+                    if (random.nextDouble() < writeRatio) {
+                        send("POST /api/maintenance", post("/api/maintenance", newMaintenanceRequest(random)));
+                    } else {
+                        claimAndComplete(random);
+                    }
+                    continue;
+                }
+                Call call = nextCall(random, cursors);
+                String body = send(call.name(), call.request());
+                if (body != null) {
+                    call.completed(body, cursors);
+                }
+            }
+        }
+
+        private void claimAndComplete(ThreadLocalRandom random) {
+            String body = send("POST /api/maintenance/queue/claim",
+                    post("/api/maintenance/queue/claim?staffId=" + pickId(staffIds, random) + "&limit=1", ""));
+            Matcher assignment = body != null ? ASSIGNMENT_ID.matcher(body) : null;
+            if (assignment == null || !assignment.find()) {
+                return;
+            }
+            Matcher request = REQUEST_ID.matcher(body);
+            if (request.find() && !claimedRequestIds.add(Long.parseLong(request.group(1)))) {
+                duplicateClaims.incrementAndGet();
+            }
+            if (recording) {
+                measuredClaims.incrementAndGet();
+            }
+            send("POST /api/maintenance/queue/assignments/{id}/complete",
+                    post("/api/maintenance/queue/assignments/" + assignment.group(1) + "/complete", ""));
+        }
+
+        private String send(String name, HttpRequest request) {
+            long started = System.nanoTime();
+            boolean ok;
+            String body = null;
+            try {
+                HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+                ok = response.statusCode() < 400;
+                body = ok ? response.body() : null;
+            } catch (IOException e) {
+                ok = false;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                stopped = true;
+                return null;
+            }
+            long elapsed = System.nanoTime() - started;
+            if (recording) {
+                recorders.computeIfAbsent(name, Recorder::new).record(elapsed, ok);
+            }
+            return body;
+        }
+    }
+
+    private String newMaintenanceRequest(ThreadLocalRandom random) {
+        return newMaintenanceRequest(pickId(unitIds, random), pickId(tenantIds, random), random.nextInt(1_000_000));
+    }
+
+    private static String newMaintenanceRequest(long unitId, long tenantId, int n) {
+        return "{\"description\":\"Load test request " + n + "\","
+                + "\"status\":\"Pending\",\"priority\":\"Medium\",\"createdDate\":\"" + LocalDate.now() + "\","
+                + "\"apartmentUnit\":{\"id\":" + unitId + "},"
+                + "\"tenant\":{\"id\":" + tenantId + "}}";
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(Duration.ofSeconds(30)).GET().build();
+    }
+
+    private HttpRequest post(String path, String json) {
+        return post(baseUrl + path, json, Duration.ofSeconds(30));
+    }
+
+    private static HttpRequest post(String url, String json, Duration timeout) {
+        return HttpRequest.newBuilder(URI.create(url))
+                .timeout(timeout)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build();
+    }
+
+    private static void createStaff(HttpClient client, String baseUrl, int count) throws IOException, InterruptedException {
+        long run = System.currentTimeMillis();
+        for (int i = 0; i < count; i++) {
+            String json = "{\"firstName\":\"Load\",\"lastName\":\"Staff " + i + "\","
+                    + "\"email\":\"load-" + run + "-" + i + "@example.com\",\"role\":\"Maintenance\","
+                    + "\"hireDate\":\"" + LocalDate.now() + "\",\"status\":\"Active\"}";
+            expectOk(client.send(post(baseUrl + "/api/staff", json, Duration.ofSeconds(30)),
+                    HttpResponse.BodyHandlers.ofString()), "POST /api/staff");
+        }
+    }
+
+    private static void createBacklog(HttpClient client, String baseUrl, int count, long[] unitIds, long[] tenantIds)
+            throws IOException, InterruptedException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int created = 0; created < count; ) {
+            StringJoiner batch = new StringJoiner(",", "[", "]");
+            for (int i = 0; i < 500 && created < count; i++, created++) {
+                batch.add(newMaintenanceRequest(pickId(unitIds, random), pickId(tenantIds, random), created));
+            }
+            expectOk(client.send(post(baseUrl + "/api/maintenance/batch", batch.toString(), Duration.ofMinutes(2)),
+                    HttpResponse.BodyHandlers.ofString()), "POST /api/maintenance/batch");
+        }
+    }
+
+    private static void expectOk(HttpResponse<String> response, String operation) {
+        if (response.statusCode() >= 400) {
+            throw new IllegalStateException(operation + " returned " + response.statusCode() + ": " + response.body());
+        }
+    }
+
+    private static long pickId(long[] ids, ThreadLocalRandom random) {
+        return ids[random.nextInt(ids.length)];
+    }
+
+    private static String pickTerm(ThreadLocalRandom random) {
+        return SEARCH_TERMS[random.nextInt(SEARCH_TERMS.length)];
+    }
+
+    private static long[] discoverIds(HttpClient client, ObjectMapper mapper, String url) throws IOException, InterruptedException {
+        HttpResponse<String> response = client.send(HttpRequest.newBuilder(URI.create(url)).GET().build(),
+                HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("GET " + url + " returned " + response.statusCode());
+        }
+        List<Long> ids = new ArrayList<>();
+        for (JsonNode item : mapper.readTree(response.body()).path("items")) {
+            ids.add(item.path("id").asLong());
+        }
+        return ids.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    private static long[] discoverActiveStaffIds(HttpClient client, ObjectMapper mapper, String url) throws IOException, InterruptedException {
+        HttpResponse<String> response = client.send(HttpRequest.newBuilder(URI.create(url)).GET().build(),
+                HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("GET " + url + " returned " + response.statusCode());
+        }
+        List<Long> ids = new ArrayList<>();
+        for (JsonNode staff : mapper.readTree(response.body())) {
+            if ("Active".equals(staff.path("status").asText())) {
+                ids.add(staff.path("id").asLong());
+            }
+        }
+        return ids.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    private static void parseOptions(String[] args, Map<String, String> options, Map<String, String> appProperties) {
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                usage("Expected --name=value but got " + arg);
+            }
+            int eq = arg.indexOf('=');
+            String name = arg.substring(2, eq);
+            boolean forApp = false;
+            for (String prefix : APP_PREFIXES) {
+                forApp |= name.startsWith(prefix);
+            }
+            (forApp ? appProperties : options).put(name, arg.substring(eq + 1));
+        }
+    }
+
+    private static void usage(String message) {
+        throw new IllegalArgumentException(message);
+    }
+}
@@ -0,0 +1,66 @@
+package com.apartmentmanagement.perf;
+
+import com.apartmentmanagement.ApartmentManagementApplication;
+import com.apartmentmanagement.support.EmbeddedDatabaseConfig;
+import com.apartmentmanagement.support.EmbeddedMariaDb;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Starts the application in-process against the embedded MariaDB, seeded by DataGenerator under
+ * the {@code datagen} profile before the web server starts taking requests. Sizes come from
+ * application-datagen.properties and can be overridden like any other property, e.g.
+ * {@code app.datagen.buildings=700} for about 400k rows.
+ */
+public final class PerfApplication {
+
+    private PerfApplication() {
+    }
+
+    /**
+     * Runs the seeded application on its own, e.g. to time DataGenerator:
+     * {@code --app.datagen.buildings=2000 --app.datagen.exit=true --spring.main.web-application-type=none}.
+     */
+    public static void main(String[] args) {
+        Map<String, String> overrides = new LinkedHashMap<>();
+        for (String arg : args) {
+            int eq = arg.indexOf('=');
+            if (!arg.startsWith("--") || eq < 0) {
+                throw new IllegalArgumentException("Expected --name=value but got " + arg);
+            }
+            overrides.put(arg.substring(2, eq), arg.substring(eq + 1));
+        }
+        ConfigurableApplicationContext context = start(overrides);
+        if (context instanceof WebServerApplicationContext) {
+            System.out.println("Serving seeded data on http://localhost:" + port(context));
+        }
+    }
+
+    /**
+     * @param overrides Spring properties (without the leading {@code --}) that win over the
+     *                  defaults below, e.g. {@code spring.profiles.active=prod}
+     */
+    public static ConfigurableApplicationContext start(Map<String, String> overrides) {
+        Map<String, String> properties = new LinkedHashMap<>(EmbeddedMariaDb.datasourceProperties());
+        properties.put("spring.main.web-application-type", "servlet");
+        properties.put("app.datagen.exit", "false");
+        properties.put("server.port", "0");
+        properties.put("spring.jpa.show-sql", "false");
+        properties.put("logging.file.path", "target/perf-logs");
+        properties.putAll(overrides);
+        String[] args = properties.entrySet().stream()
+                .map(property -> "--" + property.getKey() + "=" + property.getValue())
+                .toArray(String[]::new);
+        return new SpringApplicationBuilder(ApartmentManagementApplication.class, EmbeddedDatabaseConfig.class)
+                .profiles("datagen")
+                .run(args);
+    }
+
+    public static int port(ConfigurableApplicationContext context) {
+        return ((WebServerApplicationContext) context).getWebServer().getPort();
+    }
+}
@@ -0,0 +1,81 @@
+package com.apartmentmanagement.perf;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+/** Latencies of one operation, kept raw so percentiles are exact. Safe to record from several threads. */
+class Recorder {
+
+    static final String HEADER = String.format("%-52s %9s %7s %9s %9s %9s %9s %9s %9s",
+            "operation", "requests", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+    static final String CSV_HEADER = "operation,requests,errors,throughput,p50_ms,p90_ms,p99_ms,p999_ms,max_ms";
+
+    final String name;
+    private long[] latencies = new long[1024];
+    private int count;
+    private int errors;
+    private boolean sorted;
+
+    Recorder(String name) {
+        this.name = name;
+    }
+
+    synchronized void record(long nanos, boolean ok) {
+        if (count == latencies.length) {
+            latencies = Arrays.copyOf(latencies, count * 2);
+        }
+        latencies[count++] = nanos;
+        if (!ok) {
+            errors++;
+        }
+        sorted = false;
+    }
+
+    synchronized void merge(Recorder other) {
+        synchronized (other) {
+            if (count + other.count > latencies.length) {
+                latencies = Arrays.copyOf(latencies, Math.max(latencies.length * 2, count + other.count));
+            }
+            System.arraycopy(other.latencies, 0, latencies, count, other.count);
+            count += other.count;
+            errors += other.errors;
+            sorted = false;
+        }
+    }
+
+    synchronized int count() {
+        return count;
+    }
+
+    synchronized int errors() {
+        return errors;
+    }
+
+    synchronized long percentile(double quantile) {
+        if (count == 0) {
+            return 0;
+        }
+        if (!sorted) {
+            Arrays.sort(latencies, 0, count);
+            sorted = true;
+        }
+        int index = (int) Math.ceil(quantile * count) - 1;
+        return latencies[Math.max(0, Math.min(index, count - 1))];
+    }
+
+    String format(Duration duration) {
+        return String.format("%-52s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f", name, count(), errors(),
+                count() / (duration.toMillis() / 1000.0), millis(percentile(0.5)), millis(percentile(0.9)),
+                millis(percentile(0.99)), millis(percentile(0.999)), millis(percentile(1.0)));
+    }
+
+    String csv(Duration duration) {
+        return String.format("\"%s\",%d,%d,%.1f,%.2f,%.2f,%.2f,%.2f,%.2f", name, count(), errors(),
+                count() / (duration.toMillis() / 1000.0), millis(percentile(0.5)), millis(percentile(0.9)),
+                millis(percentile(0.99)), millis(percentile(0.999)), millis(percentile(1.0)));
+    }
+
+    static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
@@ -0,0 +1,100 @@
+package com.apartmentmanagement.perf.jmh;
+
+import com.apartmentmanagement.exception.GlobalExceptionHandler;
+import com.apartmentmanagement.perf.PerfApplication;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Request-thread cost of GlobalExceptionHandler's catch-all for an exception about as deep as
+ * one thrown under Spring MVC. {@code current} is the handler as shipped, logging through the
+ * async appenders of logback-spring.xml; {@code legacyPrintStackTrace} is the handler before
+ * structured logging, which wrote the trace to stderr itself. Standard out and error go to files
+ * under target/perf-logs, as they would under a service manager, for both. SampleTime reports
+ * percentiles; events an async queue discards when full are included, as they are in production.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+public class ErrorPathBenchmark {
+
+    private static final int STACK_DEPTH = 120;
+
+    private ConfigurableApplicationContext context;
+    private GlobalExceptionHandler handler;
+    private Exception exception;
+    private PrintStream out;
+    private PrintStream err;
+
+    @Setup
+    public void setUp() throws Exception {
+        Path logs = Files.createDirectories(Path.of("target/perf-logs"));
+        out = System.out;
+        err = System.err;
+        System.setOut(redirect(logs.resolve("stdout.log")));
+        System.setErr(redirect(logs.resolve("stderr.log")));
+        context = PerfApplication.start(Map.of(
+                "spring.main.web-application-type", "none",
+                "app.datagen.buildings", "1"));
+        handler = context.getBean(GlobalExceptionHandler.class);
+        exception = throwFrom(STACK_DEPTH);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+        System.setOut(out);
+        System.setErr(err);
+    }
+
+    @Benchmark
+    public ResponseEntity<Map<String, String>> current() {
+        return handler.handleGenericException(exception);
+    }
+
+    @Benchmark
+    public ResponseEntity<Map<String, String>> legacyPrintStackTrace() {
+        Map<String, String> error = new HashMap<>();
+        error.put("error", exception.getClass().getSimpleName());
+        error.put("message", exception.getMessage() != null ? exception.getMessage() : "An unexpected error occurred");
+        exception.printStackTrace();
+        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(error);
+    }
+
+    private static PrintStream redirect(Path file) throws FileNotFoundException {
+        // Like the JVM's own System.err: flushed on every line
+        return new PrintStream(new FileOutputStream(file.toFile(), true), true);
+    }
+
+    private static Exception throwFrom(int depth) {
+        if (depth == 0) {
+            return new IllegalStateException("Lease 42 has no apartment unit",
+                    new IllegalArgumentException("apartmentUnit must not be null"));
+        }
+        return throwFrom(depth - 1);
+    }
+}
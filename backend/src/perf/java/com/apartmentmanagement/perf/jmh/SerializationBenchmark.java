@@ -0,0 +1,95 @@
+package com.apartmentmanagement.perf.jmh;
+
+import com.apartmentmanagement.dto.CursorPage;
+import com.apartmentmanagement.dto.LeaseSummary;
+import com.apartmentmanagement.dto.MaintenanceSummary;
+import com.apartmentmanagement.entity.ApartmentUnit;
+import com.apartmentmanagement.entity.Building;
+import com.apartmentmanagement.entity.LeaseStatus;
+import com.apartmentmanagement.entity.MaintenancePriority;
+import com.apartmentmanagement.entity.MaintenanceStatus;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON serialization cost of one page of the list endpoints: the flat lease and maintenance
+ * summaries against apartment-unit entities with their building, which is what the list views
+ * returned before the summary projections. The mapper is configured like Spring Boot's.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializationBenchmark {
+
+    @Param({ "100", "500" })
+    private int pageSize;
+
+    private ObjectMapper mapper;
+    private CursorPage<LeaseSummary> leases;
+    private CursorPage<MaintenanceSummary> maintenance;
+    private List<ApartmentUnit> units;
+
+    @Setup
+    public void setUp() {
+        mapper = Jackson2ObjectMapperBuilder.json().featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS).build();
+        LocalDate today = LocalDate.of(2025, 1, 1);
+        List<LeaseSummary> leaseRows = new ArrayList<>();
+        List<MaintenanceSummary> maintenanceRows = new ArrayList<>();
+        units = new ArrayList<>();
+        Building building = new Building();
+        building.setId(1L);
+        building.setName("Maple Residences 1");
+        building.setAddress("1200 Maple St");
+        for (long i = 1; i <= pageSize; i++) {
+            leaseRows.add(new LeaseSummary(i, today.minusYears(1), today.plusDays(i), 1850.0, LeaseStatus.ACTIVE,
+                    i, "Tenant " + i, i, "10" + i % 10, 1L, building.getName()));
+            maintenanceRows.add(new MaintenanceSummary(i, "Leaky faucet in kitchen", MaintenanceStatus.PENDING,
+                    MaintenancePriority.HIGH, today, i, "10" + i % 10, 1L, i, "Tenant " + i));
+            ApartmentUnit unit = new ApartmentUnit();
+            unit.setId(i);
+            unit.setUnitNumber("10" + i % 10);
+            unit.setBedrooms(2);
+            unit.setRent(1850.0);
+            unit.setBuilding(building);
+            units.add(unit);
+        }
+        leases = new CursorPage<>(leaseRows, (long) pageSize);
+        maintenance = new CursorPage<>(maintenanceRows, (long) pageSize);
+    }
+
+    @Benchmark
+    public byte[] leaseSummaryPage() throws JsonProcessingException {
+        return mapper.writeValueAsBytes(leases);
+    }
+
+    @Benchmark
+    public byte[] maintenanceSummaryPage() throws JsonProcessingException {
+        return mapper.writeValueAsBytes(maintenance);
+    }
+
+    @Benchmark
+    public byte[] apartmentUnitEntities() throws JsonProcessingException {
+        return mapper.writeValueAsBytes(units);
+    }
+}
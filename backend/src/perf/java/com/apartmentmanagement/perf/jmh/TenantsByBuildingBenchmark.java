@@ -0,0 +1,103 @@
+package com.apartmentmanagement.perf.jmh;
+
+import com.apartmentmanagement.controller.BuildingController;
+import com.apartmentmanagement.entity.Tenant;
+import com.apartmentmanagement.perf.PerfApplication;
+import com.apartmentmanagement.repository.BuildingRepository;
+import com.apartmentmanagement.repository.LeaseAgreementRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * GET /api/buildings/{id}/tenants, controller call plus JSON serialization, against the embedded
+ * MariaDB seeded by DataGenerator with {@code buildings} buildings of 50 units and 3 leases each.
+ * {@code current} is the JPQL query in BuildingController; {@code legacyStream} is the original
+ * implementation, which loaded every lease and filtered in memory (here with the lease entity
+ * graph, so it is one joined query rather than the original lazy loads). Run with
+ * {@code -prof gc} for allocation per call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+public class TenantsByBuildingBenchmark {
+
+    @Param({ "20", "100" })
+    private int buildings;
+
+    private ConfigurableApplicationContext context;
+    private BuildingController buildingController;
+    private LeaseAgreementRepository leaseAgreementRepository;
+    private TransactionTemplate readOnly;
+    private ObjectMapper mapper;
+    private long[] buildingIds;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        context = PerfApplication.start(Map.of(
+                "spring.main.web-application-type", "none",
+                "app.datagen.buildings", String.valueOf(buildings),
+                "logging.level.root", "WARN"));
+        buildingController = context.getBean(BuildingController.class);
+        leaseAgreementRepository = context.getBean(LeaseAgreementRepository.class);
+        mapper = context.getBean(ObjectMapper.class);
+        readOnly = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnly.setReadOnly(true);
+        buildingIds = context.getBean(BuildingRepository.class).findAll().stream().mapToLong(b -> b.getId()).toArray();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    private long nextBuildingId() {
+        return buildingIds[next++ % buildingIds.length];
+    }
+
+    @Benchmark
+    public byte[] current() {
+        long buildingId = nextBuildingId();
+        return readOnly.execute(status -> json(buildingController.getTenantsByBuilding(buildingId, false)));
+    }
+
+    @Benchmark
+    public byte[] legacyStream() {
+        Long buildingId = nextBuildingId();
+        return readOnly.execute(status -> json(leaseAgreementRepository.findAll().stream()
+                .filter(lease -> lease.getApartmentUnit().getBuilding().getId().equals(buildingId))
+                .map(lease -> lease.getTenant())
+                .distinct()
+                .collect(Collectors.toList())));
+    }
+
+    private byte[] json(List<Tenant> tenants) {
+        try {
+            return mapper.writeValueAsBytes(tenants);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
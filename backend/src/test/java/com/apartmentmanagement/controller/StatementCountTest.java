@@ -0,0 +1,239 @@
+package com.apartmentmanagement.controller;
+
+import com.apartmentmanagement.entity.ApartmentUnit;
+import com.apartmentmanagement.entity.Building;
+import com.apartmentmanagement.entity.LeaseAgreement;
+import com.apartmentmanagement.entity.LeaseStatus;
+import com.apartmentmanagement.entity.MaintenancePriority;
+import com.apartmentmanagement.entity.MaintenanceRequest;
+import com.apartmentmanagement.entity.MaintenanceStatus;
+import com.apartmentmanagement.entity.Payment;
+import com.apartmentmanagement.entity.Staff;
+import com.apartmentmanagement.entity.StaffRole;
+import com.apartmentmanagement.entity.Tenant;
+import com.apartmentmanagement.repository.ApartmentUnitRepository;
+import com.apartmentmanagement.repository.BuildingRepository;
+import com.apartmentmanagement.repository.LeaseAgreementRepository;
+import com.apartmentmanagement.repository.MaintenanceRequestRepository;
+import com.apartmentmanagement.repository.PaymentRepository;
+import com.apartmentmanagement.repository.StaffRepository;
+import com.apartmentmanagement.repository.TenantRepository;
+import com.apartmentmanagement.service.MaintenanceWorkQueue;
+import com.apartmentmanagement.support.EmbeddedDatabaseConfig;
+import com.apartmentmanagement.support.EmbeddedMariaDb;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Every list and detail endpoint must issue a fixed number of SQL statements, however many rows
+ * and distinct associations it returns. The dataset has several buildings, units, tenants and
+ * leases per parent, so an N+1 select anywhere shows up as a count that grows past the expected one.
+ */
+@SpringBootTest(properties = { "spring.jpa.show-sql=false", "app.leases.expiry.initial-delay=PT24H" })
+@AutoConfigureMockMvc
+@Import(EmbeddedDatabaseConfig.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class StatementCountTest {
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        EmbeddedMariaDb.datasourceProperties().forEach((name, value) -> registry.add(name, () -> value));
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private BuildingRepository buildingRepository;
+
+    @Autowired
+    private ApartmentUnitRepository apartmentUnitRepository;
+
+    @Autowired
+    private TenantRepository tenantRepository;
+
+    @Autowired
+    private LeaseAgreementRepository leaseAgreementRepository;
+
+    @Autowired
+    private MaintenanceRequestRepository maintenanceRequestRepository;
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    @Autowired
+    private StaffRepository staffRepository;
+
+    @Autowired
+    private MaintenanceWorkQueue maintenanceWorkQueue;
+
+    private Long buildingId;
+    private Long leaseId;
+    private Long staffId;
+
+    @BeforeAll
+    void seed() {
+        List<Building> buildings = new ArrayList<>();
+        for (int b = 1; b <= 3; b++) {
+            Building building = new Building();
+            building.setName("Building " + b);
+            building.setAddress(b + " Main St");
+            buildings.add(building);
+        }
+        buildingRepository.saveAll(buildings);
+
+        List<ApartmentUnit> units = new ArrayList<>();
+        for (Building building : buildings) {
+            for (int u = 1; u <= 4; u++) {
+                ApartmentUnit unit = new ApartmentUnit();
+                unit.setUnitNumber(String.valueOf(100 + u));
+                unit.setBedrooms(u % 3 + 1);
+                unit.setRent(1000.0 + 100 * u);
+                unit.setBuilding(building);
+                units.add(unit);
+            }
+        }
+        apartmentUnitRepository.saveAll(units);
+
+        // Two leases per unit, each with its own tenant: one current, one expired
+        List<Tenant> tenants = new ArrayList<>();
+        List<LeaseAgreement> leases = new ArrayList<>();
+        List<MaintenanceRequest> requests = new ArrayList<>();
+        LocalDate today = LocalDate.now();
+        for (ApartmentUnit unit : units) {
+            for (int l = 0; l < 2; l++) {
+                Tenant tenant = new Tenant();
+                tenant.setName("Tenant Smith " + tenants.size());
+                tenant.setEmail("tenant" + tenants.size() + "@example.com");
+                tenant.setPhone("555-0100");
+                tenants.add(tenant);
+
+                LeaseAgreement lease = new LeaseAgreement();
+                lease.setStartDate(today.minusYears(2 - l));
+                lease.setEndDate(today.minusYears(1 - l).plusMonths(l * 6));
+                lease.setMonthlyRent(unit.getRent());
+                lease.setLeaseStatus(l == 0 ? LeaseStatus.EXPIRED : LeaseStatus.ACTIVE);
+                lease.setTenant(tenant);
+                lease.setApartmentUnit(unit);
+                leases.add(lease);
+
+                MaintenanceRequest request = new MaintenanceRequest();
+                request.setDescription("Leaking faucet in unit " + unit.getUnitNumber());
+                request.setStatus(l == 0 ? MaintenanceStatus.COMPLETED : MaintenanceStatus.PENDING);
+                request.setPriority(l == 0 ? MaintenancePriority.LOW : MaintenancePriority.HIGH);
+                request.setCreatedDate(today.minusDays(30 - l));
+                request.setApartmentUnit(unit);
+                request.setTenant(tenant);
+                requests.add(request);
+            }
+        }
+        tenantRepository.saveAll(tenants);
+        leaseAgreementRepository.saveAll(leases);
+        maintenanceRequestRepository.saveAll(requests);
+
+        List<Payment> payments = new ArrayList<>();
+        for (LeaseAgreement lease : leases) {
+            for (int p = 0; p < 2; p++) {
+                Payment payment = new Payment();
+                payment.setLease(lease);
+                payment.setPaymentDate(lease.getStartDate().plusMonths(p));
+                payment.setAmount(BigDecimal.valueOf(lease.getMonthlyRent()));
+                payment.setPaymentType("rent");
+                payment.setPaymentMethod("online");
+                payment.setStatus("completed");
+                payments.add(payment);
+            }
+        }
+        paymentRepository.saveAll(payments);
+
+        Staff staff = new Staff();
+        staff.setFirstName("Dana");
+        staff.setLastName("Lee");
+        staff.setEmail("dana.lee@example.com");
+        staff.setRole(StaffRole.MAINTENANCE);
+        staff.setHireDate(today.minusYears(3));
+        staffRepository.save(staff);
+        maintenanceWorkQueue.claim(staff.getId(), 3);
+
+        buildingId = buildings.get(0).getId();
+        leaseId = leases.get(0).getId();
+        staffId = staff.getId();
+    }
+
+    @BeforeEach
+    void clearCaches() {
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+    }
+
+    @ParameterizedTest(name = "GET {0} issues {1} statements")
+    @CsvSource({
+            "/api/buildings, 1",
+            "/api/buildings?limit=2, 1",
+            "/api/buildings/{building}/tenants, 1",
+            "/api/buildings/{building}/tenants?activeOnly=true, 1",
+            // the buildings plus one GROUP BY each for units and active leases
+            "/api/buildings/stats, 3",
+            "/api/buildings/{building}/stats, 3",
+            "/api/apartment-units, 1",
+            "/api/apartment-units?limit=5, 1",
+            "/api/tenants, 1",
+            "/api/tenants?limit=5, 1",
+            "/api/tenants/search?q=smith, 1",
+            "/api/leases, 1",
+            "/api/leases?limit=5, 1",
+            "/api/leases/active, 1",
+            "/api/maintenance, 1",
+            "/api/maintenance?limit=5, 1",
+            "/api/maintenance/status/pending, 1",
+            "/api/maintenance/priority/high, 1",
+            "/api/maintenance/search?status=pending&buildingId={building}, 1",
+            "/api/maintenance/search?q=faucet, 1",
+            "/api/payments, 1",
+            "/api/payments?limit=5, 1",
+            "/api/payments/lease/{lease}, 1",
+            "/api/staff, 1",
+            "/api/staff/{staff}, 1",
+            "/api/staff/{staff}/assignments, 1",
+            "/api/staff/{staff}/assignments?openOnly=true, 1"
+    })
+    void issuesFixedStatementCount(String path, int expected) throws Exception {
+        String uri = path.replace("{building}", buildingId.toString())
+                .replace("{lease}", leaseId.toString())
+                .replace("{staff}", staffId.toString());
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        mockMvc.perform(get(uri)).andExpect(status().isOk());
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(expected);
+    }
+}
@@ -0,0 +1,198 @@
+package com.apartmentmanagement.controller;
+
+import com.apartmentmanagement.entity.ApartmentUnit;
+import com.apartmentmanagement.entity.Building;
+import com.apartmentmanagement.entity.LeaseAgreement;
+import com.apartmentmanagement.entity.LeaseStatus;
+import com.apartmentmanagement.entity.MaintenanceRequest;
+import com.apartmentmanagement.entity.Payment;
+import com.apartmentmanagement.entity.Tenant;
+import com.apartmentmanagement.repository.ApartmentUnitRepository;
+import com.apartmentmanagement.repository.BuildingRepository;
+import com.apartmentmanagement.repository.LeaseAgreementRepository;
+import com.apartmentmanagement.repository.MaintenanceRequestRepository;
+import com.apartmentmanagement.repository.PaymentRepository;
+import com.apartmentmanagement.repository.TenantRepository;
+import com.apartmentmanagement.support.EmbeddedDatabaseConfig;
+import com.apartmentmanagement.support.EmbeddedMariaDb;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Write endpoints serialize their entity after the transaction and the session have closed
+ * (open-in-view is off), so the lazy associations they return must still come out as JSON.
+ */
+@SpringBootTest(properties = { "spring.jpa.show-sql=false", "app.leases.expiry.initial-delay=PT24H" })
+@AutoConfigureMockMvc
+@Import(EmbeddedDatabaseConfig.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class WriteEndpointTest {
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        EmbeddedMariaDb.datasourceProperties().forEach((name, value) -> registry.add(name, () -> value));
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private BuildingRepository buildingRepository;
+
+    @Autowired
+    private ApartmentUnitRepository apartmentUnitRepository;
+
+    @Autowired
+    private TenantRepository tenantRepository;
+
+    @Autowired
+    private LeaseAgreementRepository leaseAgreementRepository;
+
+    @Autowired
+    private MaintenanceRequestRepository maintenanceRequestRepository;
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    private Building building;
+    private ApartmentUnit unit;
+    private Tenant tenant;
+    private LeaseAgreement lease;
+    private MaintenanceRequest request;
+    private Payment payment;
+
+    @BeforeAll
+    void seed() {
+        building = new Building();
+        building.setName("Write Test Building");
+        building.setAddress("1 Write St");
+        buildingRepository.save(building);
+
+        unit = new ApartmentUnit();
+        unit.setUnitNumber("101");
+        unit.setBedrooms(2);
+        unit.setRent(1500.0);
+        unit.setBuilding(building);
+        apartmentUnitRepository.save(unit);
+
+        tenant = new Tenant();
+        tenant.setName("Write Tenant");
+        tenant.setEmail("write.tenant@example.com");
+        tenantRepository.save(tenant);
+
+        lease = new LeaseAgreement();
+        lease.setStartDate(LocalDate.now().minusMonths(6));
+        lease.setEndDate(LocalDate.now().plusMonths(6));
+        lease.setMonthlyRent(1500.0);
+        lease.setLeaseStatus(LeaseStatus.ACTIVE);
+        lease.setTenant(tenant);
+        lease.setApartmentUnit(unit);
+        leaseAgreementRepository.save(lease);
+
+        request = new MaintenanceRequest();
+        request.setDescription("Broken heater");
+        request.setCreatedDate(LocalDate.now());
+        request.setApartmentUnit(unit);
+        request.setTenant(tenant);
+        maintenanceRequestRepository.save(request);
+
+        payment = new Payment();
+        payment.setLease(lease);
+        payment.setPaymentDate(LocalDate.now());
+        payment.setAmount(BigDecimal.valueOf(1500));
+        payment.setPaymentType("rent");
+        payment.setPaymentMethod("online");
+        payment.setStatus("completed");
+        paymentRepository.save(payment);
+    }
+
+    @Test
+    void patchApartmentUnitReturnsItsBuilding() throws Exception {
+        mockMvc.perform(patch("/api/apartment-units/" + unit.getId()).contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"rent\": 1550.0}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.building.id").value(building.getId()));
+    }
+
+    @Test
+    void patchLeaseReturnsItsTenantAndUnit() throws Exception {
+        mockMvc.perform(patch("/api/leases/" + lease.getId()).contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"monthlyRent\": 1550.0}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.tenant.id").value(tenant.getId()))
+                .andExpect(jsonPath("$.apartmentUnit.id").value(unit.getId()));
+    }
+
+    @Test
+    void patchMaintenanceRequestAssociationReturnsTheNewReference() throws Exception {
+        mockMvc.perform(patch("/api/maintenance/" + request.getId()).contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"tenant\": {\"id\": " + tenant.getId() + "}}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.tenant.id").value(tenant.getId()))
+                .andExpect(jsonPath("$.apartmentUnit.id").value(unit.getId()));
+    }
+
+    @Test
+    void patchPaymentReturnsItsLease() throws Exception {
+        mockMvc.perform(patch("/api/payments/" + payment.getId()).contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"status\": \"refunded\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.lease.id").value(lease.getId()));
+    }
+
+    @Test
+    void putMaintenanceRequestReturnsItsReferences() throws Exception {
+        MaintenanceRequest current = maintenanceRequestRepository.findById(request.getId()).orElseThrow();
+        mockMvc.perform(put("/api/maintenance/" + request.getId()).contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"version\": " + current.getVersion() + ", \"description\": \"Broken heater, bedroom\","
+                                + " \"status\": \"Pending\", \"priority\": \"High\", \"createdDate\": \"" + LocalDate.now() + "\","
+                                + " \"apartmentUnit\": {\"id\": " + unit.getId() + "}, \"tenant\": {\"id\": " + tenant.getId() + "}}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.description").value("Broken heater, bedroom"))
+                .andExpect(jsonPath("$.tenant.id").value(tenant.getId()))
+                .andExpect(jsonPath("$.apartmentUnit.id").value(unit.getId()));
+    }
+
+    @Test
+    void putWithoutVersionIsRejected() throws Exception {
+        mockMvc.perform(put("/api/tenants/" + tenant.getId()).contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\": \"Write Tenant\", \"email\": \"write.tenant@example.com\"}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void putToMissingIdIsNotFound() throws Exception {
+        mockMvc.perform(put("/api/tenants/" + (tenant.getId() + 1_000_000)).contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"version\": 0, \"name\": \"Nobody\", \"email\": \"nobody@example.com\"}"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void postLeaseWithBareReferences() throws Exception {
+        mockMvc.perform(post("/api/leases").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"startDate\": \"" + LocalDate.now() + "\", \"endDate\": \"" + LocalDate.now().plusYears(1) + "\","
+                                + " \"monthlyRent\": 1600.0, \"leaseStatus\": \"ACTIVE\","
+                                + " \"tenant\": {\"id\": " + tenant.getId() + "}, \"apartmentUnit\": {\"id\": " + unit.getId() + "}}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.tenant.id").value(tenant.getId()))
+                .andExpect(jsonPath("$.apartmentUnit.id").value(unit.getId()));
+    }
+}
@@ -0,0 +1,73 @@
+package com.apartmentmanagement.datasource;
+
+import com.apartmentmanagement.entity.Tenant;
+import com.apartmentmanagement.repository.TenantRepository;
+import com.apartmentmanagement.support.EmbeddedDatabaseConfig;
+import com.apartmentmanagement.support.EmbeddedMariaDb;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * More concurrent inserts than pooled connections, crossing many id blocks. With the id blocks
+ * fetched from the application pool, the insert refilling the block waits for a connection held
+ * by inserts waiting on it, and fails after the connection timeout.
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "app.leases.expiry.initial-delay=PT24H",
+        "spring.datasource.hikari.maximum-pool-size=2",
+        "spring.datasource.hikari.connection-timeout=2000" })
+@Import(EmbeddedDatabaseConfig.class)
+class PooledTableIdGeneratorTest {
+
+    private static final int THREADS = 8;
+    private static final int INSERTS_PER_THREAD = 100;
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        EmbeddedMariaDb.datasourceProperties().forEach((name, value) -> registry.add(name, () -> value));
+    }
+
+    @Autowired
+    private TenantRepository tenantRepository;
+
+    @Test
+    void concurrentInsertsOnASmallPoolGetDistinctIds() throws Exception {
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> inserts = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                int thread = t;
+                inserts.add(executor.submit(() -> {
+                    for (int i = 0; i < INSERTS_PER_THREAD; i++) {
+                        Tenant tenant = new Tenant();
+                        tenant.setName("Id Test " + thread + "-" + i);
+                        tenant.setEmail("id-test-" + thread + "-" + i + "@example.com");
+                        ids.add(tenantRepository.save(tenant).getId());
+                    }
+                }));
+            }
+            for (Future<?> insert : inserts) {
+                insert.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(ids).hasSize(THREADS * INSERTS_PER_THREAD);
+    }
+}
@@ -0,0 +1,18 @@
+package com.apartmentmanagement.support;
+
+import org.springframework.boot.autoconfigure.flyway.FlywayConfigurationCustomizer;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * Application settings for running against {@link EmbeddedMariaDb}: the Flyway migrations are read
+ * through {@link MariaDbMigrations}, which drops the MySQL-only ngram parser from V4.
+ */
+@TestConfiguration(proxyBeanMethods = false)
+public class EmbeddedDatabaseConfig {
+
+    @Bean
+    public FlywayConfigurationCustomizer mariaDbMigrations() {
+        return configuration -> configuration.resourceProvider(new MariaDbMigrations(configuration.getLocations()));
+    }
+}
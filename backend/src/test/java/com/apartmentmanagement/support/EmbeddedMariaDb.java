@@ -0,0 +1,57 @@
+package com.apartmentmanagement.support;
+
+import ch.vorburger.exec.ManagedProcessException;
+import ch.vorburger.mariadb4j.DB;
+import ch.vorburger.mariadb4j.DBConfigurationBuilder;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A MariaDB server unpacked from the mariaDB4j jars, started once per JVM on a free port, so
+ * tests and the perf suite run against real InnoDB (row locks, SKIP LOCKED, batched multi-row
+ * inserts) without Docker or a local MySQL install. The server and its data directory are
+ * removed when the JVM exits.
+ */
+public final class EmbeddedMariaDb {
+
+    public static final String DATABASE = "apartment_db";
+
+    private static DB db;
+
+    private EmbeddedMariaDb() {
+    }
+
+    /** Starts the server on first use and returns the datasource settings for it, as Spring properties. */
+    public static synchronized Map<String, String> datasourceProperties() {
+        if (db == null) {
+            start();
+        }
+        Map<String, String> properties = new LinkedHashMap<>();
+        properties.put("spring.datasource.url", "jdbc:mysql://localhost:" + db.getConfiguration().getPort() + "/" + DATABASE
+                + "?useSSL=false&serverTimezone=UTC&allowPublicKeyRetrieval=true&rewriteBatchedStatements=true");
+        properties.put("spring.datasource.username", "root");
+        properties.put("spring.datasource.password", "");
+        return properties;
+    }
+
+    private static void start() {
+        DBConfigurationBuilder config = DBConfigurationBuilder.newBuilder()
+                .setPort(0)
+                .addArg("--max-connections=1000")
+                .addArg("--innodb-buffer-pool-size=512M")
+                .addArg("--character-set-server=utf8mb4");
+        // mariadbd refuses to run as root unless told to, which is how CI containers usually run
+        if ("root".equals(System.getProperty("user.name"))) {
+            config.addArg("--user=root");
+        }
+        try {
+            DB server = DB.newEmbeddedDB(config.build());
+            server.start();
+            server.createDB(DATABASE);
+            db = server;
+        } catch (ManagedProcessException e) {
+            throw new IllegalStateException("Could not start embedded MariaDB", e);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.apartmentmanagement.support;
+
+import org.flywaydb.core.api.Location;
+import org.flywaydb.core.api.ResourceProvider;
+import org.flywaydb.core.api.resource.LoadableResource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.util.StreamUtils;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * The classpath migrations as Flyway would read them, except that full-text indexes are created
+ * with MariaDB's built-in parser: MariaDB has no ngram plugin, and V4 is otherwise portable.
+ * Search results rank on whole words instead of n-grams, which the tests do not depend on.
+ */
+class MariaDbMigrations implements ResourceProvider {
+
+    private final List<LoadableResource> resources = new ArrayList<>();
+
+    MariaDbMigrations(Location[] locations) {
+        PathMatchingResourcePatternResolver resolver = new PathMatchingResourcePatternResolver();
+        try {
+            for (Location location : locations) {
+                for (Resource resource : resolver.getResources("classpath*:" + location.getRootPath() + "/*.sql")) {
+                    String sql = StreamUtils.copyToString(resource.getInputStream(), StandardCharsets.UTF_8)
+                            .replaceAll("(?i)\\s+with parser ngram", "");
+                    resources.add(new Migration(location.getRootPath() + "/" + resource.getFilename(), resource.getFilename(), sql));
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public LoadableResource getResource(String name) {
+        return resources.stream().filter(resource -> resource.getRelativePath().equals(name)).findFirst().orElse(null);
+    }
+
+    @Override
+    public Collection<LoadableResource> getResources(String prefix, String[] suffixes) {
+        return resources.stream()
+                .filter(resource -> resource.getFilename().startsWith(prefix)
+                        && Arrays.stream(suffixes).anyMatch(resource.getFilename()::endsWith))
+                .toList();
+    }
+
+    private static class Migration extends LoadableResource {
+
+        private final String path;
+        private final String filename;
+        private final String sql;
+
+        Migration(String path, String filename, String sql) {
+            this.path = path;
+            this.filename = filename;
+            this.sql = sql;
+        }
+
+        @Override
+        public Reader read() {
+            return new StringReader(sql);
+        }
+
+        @Override
+        public String getAbsolutePath() {
+            return path;
+        }
+
+        @Override
+        public String getAbsolutePathOnDisk() {
+            return path;
+        }
+
+        @Override
+        public String getFilename() {
+            return filename;
+        }
+
+        @Override
+        public String getRelativePath() {
+            return path;
+        }
+    }
+}
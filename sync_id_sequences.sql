@@ -0,0 +1,14 @@
+-- Run once against an existing apartment_db after upgrading from IDENTITY ids to
+-- pooled sequence ids. Hibernate creates each *_seq table starting at 1, which would
+-- collide with rows inserted under AUTO_INCREMENT. Each stored value is the upper
+-- bound of the next id block, so it is moved past the current maximum id plus one
+-- allocation block (50).
+
+USE apartment_db;
+
+UPDATE building_seq SET next_val = (SELECT COALESCE(MAX(building_id), 0) + 51 FROM buildings);
+UPDATE apartment_unit_seq SET next_val = (SELECT COALESCE(MAX(apartment_id), 0) + 51 FROM apartments);
+UPDATE tenant_seq SET next_val = (SELECT COALESCE(MAX(tenant_id), 0) + 51 FROM tenants);
+UPDATE lease_agreement_seq SET next_val = (SELECT COALESCE(MAX(lease_id), 0) + 51 FROM leases);
+UPDATE maintenance_request_seq SET next_val = (SELECT COALESCE(MAX(request_id), 0) + 51 FROM maintenance_requests);
+UPDATE staff_seq SET next_val = (SELECT COALESCE(MAX(staff_id), 0) + 51 FROM staff);